@@ -0,0 +1,132 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * Computes the Levenshtein distance between a fixed pattern and other strings, for matching one query against many
+ * strings. All preparation of the pattern is done once when the matcher is created, and comparing a string against
+ * a pattern of at most {@link #MAX_BIT_PARALLEL_LENGTH} characters allocates nothing.
+ *
+ * Such patterns are matched with Myers' bit-vector algorithm, which keeps a whole column of the edit distance table
+ * in two 64-bit words and so processes each character of the other string in a constant number of operations. As
+ * the distance can fall by at most one per remaining character, a comparison against a bound stops as soon as the
+ * bound can no longer be met. Longer patterns fall back to {@link StringUtil#levenshteinDistance(String, String)}.
+ */
+public class EditDistanceMatcher {
+
+    public static final int MAX_BIT_PARALLEL_LENGTH = Long.SIZE;
+
+    private static final int ASCII_SIZE = 128;
+
+    private final String pattern;
+    // the distinct characters of the pattern in ascending order, and the positions at which each of them occurs
+    private final char[] patternChars;
+    private final long[] positionMasks;
+    // the positions at which each ASCII character occurs, looked up directly as most text is ASCII
+    private final long[] asciiPositionMasks;
+
+    /**
+     * Creates a matcher for {@code pattern}. Comparisons are case-sensitive, so callers that ignore case should pass
+     * the pattern and the strings compared in the same case.
+     */
+    public EditDistanceMatcher(String pattern) {
+        requireNonNull(pattern);
+        this.pattern = pattern;
+        if (pattern.length() > MAX_BIT_PARALLEL_LENGTH) {
+            patternChars = null;
+            positionMasks = null;
+            asciiPositionMasks = null;
+            return;
+        }
+
+        char[] sortedChars = pattern.toCharArray();
+        Arrays.sort(sortedChars);
+        int distinctCount = 0;
+        for (int i = 0; i < sortedChars.length; i++) {
+            if (i == 0 || sortedChars[i] != sortedChars[i - 1]) {
+                sortedChars[distinctCount++] = sortedChars[i];
+            }
+        }
+        patternChars = Arrays.copyOf(sortedChars, distinctCount);
+        positionMasks = new long[distinctCount];
+        asciiPositionMasks = new long[ASCII_SIZE];
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            positionMasks[Arrays.binarySearch(patternChars, c)] |= 1L << i;
+            if (c < ASCII_SIZE) {
+                asciiPositionMasks[c] |= 1L << i;
+            }
+        }
+    }
+
+    /**
+     * Returns the Levenshtein distance between the pattern and {@code text}.
+     */
+    public int distance(String text) {
+        return distance(text, Integer.MAX_VALUE - 1);
+    }
+
+    /**
+     * Returns the Levenshtein distance between the pattern and {@code text} if it is at most {@code maxDistance},
+     * or {@code maxDistance + 1} otherwise.
+     */
+    public int distance(String text, int maxDistance) {
+        requireNonNull(text);
+        if (Math.abs(pattern.length() - text.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+        if (patternChars == null) {
+            return Math.min(StringUtil.levenshteinDistance(pattern, text), maxDistance + 1);
+        }
+        if (pattern.isEmpty()) {
+            return text.length();
+        }
+
+        long lastBit = 1L << (pattern.length() - 1);
+        long positiveVertical = -1L;
+        long negativeVertical = 0;
+        int score = pattern.length();
+        for (int j = 0; j < text.length(); j++) {
+            long matches = getPositionMask(text.charAt(j));
+            long verticalOrMatches = matches | negativeVertical;
+            long horizontalOrMatches = (((matches & positiveVertical) + positiveVertical) ^ positiveVertical)
+                    | matches;
+            long positiveHorizontal = negativeVertical | ~(horizontalOrMatches | positiveVertical);
+            long negativeHorizontal = positiveVertical & horizontalOrMatches;
+            if ((positiveHorizontal & lastBit) != 0) {
+                score++;
+            } else if ((negativeHorizontal & lastBit) != 0) {
+                score--;
+            }
+
+            int remainingLength = text.length() - j - 1;
+            if (score - remainingLength > maxDistance) {
+                return maxDistance + 1;
+            }
+
+            // the first row of the table grows by one in every column
+            positiveHorizontal = (positiveHorizontal << 1) | 1;
+            negativeHorizontal <<= 1;
+            positiveVertical = negativeHorizontal | ~(verticalOrMatches | positiveHorizontal);
+            negativeVertical = positiveHorizontal & verticalOrMatches;
+        }
+        return Math.min(score, maxDistance + 1);
+    }
+
+    /**
+     * Returns true if the Levenshtein distance between the pattern and {@code text} is at most {@code maxDistance}.
+     */
+    public boolean isWithinDistance(String text, int maxDistance) {
+        return distance(text, maxDistance) <= maxDistance;
+    }
+
+    private long getPositionMask(char c) {
+        if (c < ASCII_SIZE) {
+            return asciiPositionMasks[c];
+        }
+        int index = Arrays.binarySearch(patternChars, c);
+        return index < 0 ? 0 : positionMasks[index];
+    }
+}
@@ -104,13 +104,23 @@ public class StringUtil {
      * @return true if the distance is within the threshold, false otherwise
      */
     public static boolean fuzzyMatch(String source, String keyword, int threshold) {
-        source = source.toLowerCase();
-        keyword = keyword.toLowerCase();
-        int distance = levenshteinDistance(source, keyword);
-        if (source.length() < 4) {
-            return distance <= THRESHOLD_SHORT_KEYWORD;
+        return fuzzyMatch(source.toLowerCase(), new EditDistanceMatcher(keyword.toLowerCase()), threshold);
+    }
+
+    /**
+     * Similar to {@link #fuzzyMatch(String, String, int)}, for matching one keyword against many sources.
+     * The case of both is folded by the caller, so that it is only done once for each of them.
+     *
+     * @param lowerCaseSource the source string to compare, in lower case
+     * @param lowerCaseKeyword a matcher for the keyword to compare against, in lower case
+     * @param threshold the maximum allowed Levenshtein distance for a match
+     * @return true if the distance is within the threshold, false otherwise
+     */
+    public static boolean fuzzyMatch(String lowerCaseSource, EditDistanceMatcher lowerCaseKeyword, int threshold) {
+        if (lowerCaseSource.length() < 4) {
+            return lowerCaseKeyword.isWithinDistance(lowerCaseSource, THRESHOLD_SHORT_KEYWORD);
         }
-        return distance <= threshold;
+        return lowerCaseKeyword.isWithinDistance(lowerCaseSource, threshold);
     }
 
     /**
@@ -122,7 +132,7 @@ public class StringUtil {
      * @param b the second string
      * @return the Levenshtein distance between {@code s1} and {@code s2}
      */
-    private static int levenshteinDistance(String a, String b) {
+    public static int levenshteinDistance(String a, String b) {
         int[] costs = new int[b.length() + 1];
         for (int j = 0; j < costs.length; j++) {
             costs[j] = j;
@@ -0,0 +1,149 @@
+package seedu.address.logic;
+
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameIndex;
+import seedu.address.model.person.TagIndex;
+
+/**
+ * Shows the persons that a {@code find} or {@code filter} command would list while the command is being typed.
+ *
+ * A search starts on a worker thread once the command text has not changed for {@link #DEBOUNCE_DELAY_MILLIS}. The
+ * persons are looked up there in the name and tag indexes of the model, as the command would do, so only the postings
+ * of the words typed are read. Only the identity keys found are handed to the application thread, which shows the
+ * persons with those keys, so that they stay shown when edited. A search that is overtaken by a newer command text
+ * is discarded, whether it is still waiting, being looked up or about to be shown.
+ * All methods must be called on the application thread.
+ */
+public class LiveSearch {
+
+    static final long DEBOUNCE_DELAY_MILLIS = 150;
+
+    private final Model model;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private final Executor applicationThread;
+    private final ScheduledExecutorService worker;
+    private final long debounceDelayMillis;
+
+    // incremented on the application thread whenever earlier searches become stale, and read by the worker
+    private volatile long generation;
+    private ScheduledFuture<?> pendingSearch;
+    private boolean isShowingResults;
+
+    /**
+     * Creates a live search over the persons of {@code model} that shows its results by running them on
+     * {@code applicationThread}.
+     */
+    public LiveSearch(Model model, Executor applicationThread) {
+        this(model, applicationThread, DEBOUNCE_DELAY_MILLIS);
+    }
+
+    LiveSearch(Model model, Executor applicationThread, long debounceDelayMillis) {
+        this.model = model;
+        this.applicationThread = applicationThread;
+        this.debounceDelayMillis = debounceDelayMillis;
+        worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Searches for the persons listed by {@code commandText} if it is a valid {@code find} or {@code filter}
+     * command. Otherwise, all persons are shown again if the results of an earlier search are being shown.
+     */
+    public void update(String commandText) {
+        stopPendingSearch();
+
+        Optional<Supplier<Set<String>>> search = parseSearch(commandText);
+        if (search.isEmpty()) {
+            if (isShowingResults) {
+                model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+                isShowingResults = false;
+            }
+            return;
+        }
+
+        long searchGeneration = generation;
+        pendingSearch = worker.schedule(() -> run(search.get(), searchGeneration),
+                debounceDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops any pending search, and leaves the persons shown to the command that is about to be executed.
+     */
+    public void stop() {
+        stopPendingSearch();
+        isShowingResults = false;
+    }
+
+    private void stopPendingSearch() {
+        generation++;
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+            pendingSearch = null;
+        }
+    }
+
+    /**
+     * Returns the lookup of the identity keys of the persons listed by {@code commandText}, if it is a valid
+     * {@code find} or {@code filter} command. The lookup may be run on any thread.
+     */
+    private Optional<Supplier<Set<String>>> parseSearch(String commandText) {
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException e) {
+            return Optional.empty();
+        }
+
+        if (command instanceof FindCommand) {
+            List<String> keywords = ((FindCommand) command).getPredicate().getKeywords();
+            NameIndex nameIndex = model.getAddressBook().getNameIndex();
+            return Optional.of(() -> nameIndex.getIdentityKeysMatchingAny(keywords));
+        } else if (command instanceof FilterCommand) {
+            List<String> tagNames = ((FilterCommand) command).getPredicate().getKeywords();
+            TagIndex tagIndex = model.getAddressBook().getTagIndex();
+            return Optional.of(() -> tagIndex.getIdentityKeysWithAnyTag(tagNames));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Looks up the persons found by {@code search} on the worker thread, and shows them on the application thread,
+     * unless a newer search has been started in the meantime.
+     */
+    private void run(Supplier<Set<String>> search, long searchGeneration) {
+        if (generation != searchGeneration) {
+            return;
+        }
+        Set<String> identityKeys = search.get();
+        if (generation != searchGeneration) {
+            return;
+        }
+        applicationThread.execute(() -> {
+            if (generation != searchGeneration) {
+                return;
+            }
+            model.updateFilteredPersonList(person -> identityKeys.contains(person.getIdentityKey()));
+            isShowingResults = true;
+        });
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +25,26 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command in the background and returns a future of its result.
+     * The command is parsed, and work that does not change the model, such as reading or writing files, is done on a
+     * worker thread. The command is then applied to the model on the application thread, which also completes the
+     * future. Commands are executed one at a time, in the order they were submitted.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, which fails with a {@code CompletionException} caused by a
+     *     {@code CommandException} or {@code ParseException} if {@link #execute(String)} would throw it.
+     */
+    CompletableFuture<CommandResult> executeInBackground(String commandText);
+
+    /**
+     * Shows the persons that {@code commandText} would list if it is a {@code find} or {@code filter} command, while
+     * the command is still being typed. The persons are searched for in the background once the text stops changing,
+     * and the search is abandoned if the text changes again. Executing a command stops the search.
+     * Must be called on the application thread.
+     * @param commandText The command typed so far by the user.
+     */
+    void updateLiveSearch(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -47,4 +69,10 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Blocks until all changes to the AddressBook made by executed commands have been saved.
+     * @throws IOException If the last attempt to save the AddressBook failed.
+     */
+    void flushPendingSaves() throws IOException;
 }
@@ -3,8 +3,15 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -16,6 +23,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AsyncAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -32,35 +40,170 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AsyncAddressBookSaver saver;
+    private final Executor applicationThread;
+    private final ExecutorService worker;
+    private final LiveSearch liveSearch;
+
+    // completes once the last command submitted in the background has finished, successfully or not
+    private CompletableFuture<?> lastBackgroundCommand = CompletableFuture.completedFuture(null);
+
+    // the address book is only saved again if it was modified, or is to be saved to a different file
+    private long savedModificationCount;
+    private Path savedFilePath;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book in {@code model} is assumed to be in sync with its file in {@code storage}.
+     * Changes to the address book are saved before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that saves changes to the
+     * address book in the background through {@code saver}. A failure to save is reported by the next command.
+     * If {@code saver} is null, changes are saved before each command returns.
+     */
+    public LogicManager(Model model, Storage storage, AsyncAddressBookSaver saver) {
+        this(model, storage, saver, Platform::runLater);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} as above, which applies commands executed in the background to the model by
+     * running them on {@code applicationThread}.
+     */
+    public LogicManager(Model model, Storage storage, AsyncAddressBookSaver saver, Executor applicationThread) {
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
+        this.applicationThread = applicationThread;
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        liveSearch = new LiveSearch(model, applicationThread);
         addressBookParser = new AddressBookParser();
+        savedModificationCount = model.getAddressBookModificationCount();
+        savedFilePath = model.getAddressBookFilePath();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        liveSearch.stop();
+        Command command = parseAndPrepare(commandText, model.getAddressBookSnapshot());
+        return executePrepared(command);
+    }
+
+    @Override
+    public synchronized CompletableFuture<CommandResult> executeInBackground(String commandText) {
+        liveSearch.stop();
+        // each command starts from the model left by the one before, whether or not that one failed
+        CompletableFuture<CommandResult> result = lastBackgroundCommand
+                .handle((unused1, unused2) -> null)
+                .thenApplyAsync(unused -> model.getAddressBookSnapshot(), applicationThread)
+                .thenApplyAsync(snapshot -> {
+                    try {
+                        return parseAndPrepare(commandText, snapshot);
+                    } catch (CommandException | ParseException e) {
+                        throw new CompletionException(e);
+                    }
+                }, worker)
+                .thenApplyAsync(command -> {
+                    try {
+                        return executePrepared(command);
+                    } catch (CommandException e) {
+                        throw new CompletionException(e);
+                    }
+                }, applicationThread)
+                // a command that failed on the worker thread is also reported on the application thread
+                .whenCompleteAsync((unused1, unused2) -> {}, applicationThread);
+        lastBackgroundCommand = result;
+        return result;
+    }
+
+    @Override
+    public void updateLiveSearch(String commandText) {
+        liveSearch.update(commandText);
+    }
+
+    /**
+     * Parses {@code commandText} and prepares the command on {@code addressBook}, without changing the model.
+     */
+    private Command parseAndPrepare(String commandText, ReadOnlyAddressBook addressBook)
+            throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        command.prepare(addressBook);
+        return command;
+    }
 
-        try {
-            storage.saveAddressBook(model.getAddressBook(), model.getAddressBookFilePath());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    /**
+     * Executes a prepared {@code command} on the model and saves the address book if it was modified.
+     */
+    private CommandResult executePrepared(Command command) throws CommandException {
+        CommandResult commandResult = command.execute(model);
+
+        if (saver == null) {
+            try {
+                saveAddressBookIfModified();
+            } catch (IOException ioe) {
+                throw toCommandException(ioe);
+            }
+            return commandResult;
+        }
+
+        Optional<IOException> saveFailure = saver.takeFailure();
+        if (saveFailure.isPresent()) {
+            // the failed save may have been the latest one, so the address book has to be saved again
+            savedFilePath = null;
+        }
+        saveAddressBookInBackgroundIfModified();
+        if (saveFailure.isPresent()) {
+            throw toCommandException(saveFailure.get());
         }
 
         return commandResult;
     }
 
+    private boolean isAddressBookSaved(long modificationCount, Path filePath) {
+        return modificationCount == savedModificationCount && filePath.equals(savedFilePath);
+    }
+
+    private void saveAddressBookIfModified() throws IOException {
+        long modificationCount = model.getAddressBookModificationCount();
+        Path filePath = model.getAddressBookFilePath();
+        if (isAddressBookSaved(modificationCount, filePath)) {
+            return;
+        }
+
+        storage.saveAddressBook(model.getAddressBook(), filePath);
+        savedModificationCount = modificationCount;
+        savedFilePath = filePath;
+    }
+
+    private void saveAddressBookInBackgroundIfModified() {
+        long modificationCount = model.getAddressBookModificationCount();
+        Path filePath = model.getAddressBookFilePath();
+        if (isAddressBookSaved(modificationCount, filePath)) {
+            return;
+        }
+
+        saver.save(model.getAddressBookSnapshot(), filePath);
+        savedModificationCount = modificationCount;
+        savedFilePath = filePath;
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -85,4 +228,19 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void flushPendingSaves() throws IOException {
+        if (saver == null) {
+            return;
+        }
+
+        try {
+            saver.flush();
+        } catch (IOException ioe) {
+            // retry once in the foreground, as there is no later command to report the failure to
+            savedFilePath = null;
+            saveAddressBookIfModified();
+        }
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +18,15 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Does the work of the command that does not change the model, such as reading or writing files, ahead of
+     * {@link #execute(Model)}. This may be called on a background thread, so it must only read {@code addressBook}
+     * and the command itself. Commands without such work do nothing here.
+     *
+     * @param addressBook snapshot of the address book that the command will be executed on.
+     * @throws CommandException If an error occurs while preparing the command, in which case it is not executed.
+     */
+    public void prepare(ReadOnlyAddressBook addressBook) throws CommandException {
+    }
+
 }
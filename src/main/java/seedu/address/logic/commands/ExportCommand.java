@@ -15,6 +15,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.storage.CsvAddressBookStorage;
@@ -38,6 +39,8 @@ public class ExportCommand extends Command {
 
     private Path exportName;
     private Set<Tag> tags;
+    // set once prepare has written the export file, so that execute does not write it again
+    private boolean isExported;
 
     /**
      * Initializes the export command object.
@@ -54,13 +57,30 @@ public class ExportCommand extends Command {
         this.tags = tags;
     }
 
+    @Override
+    public void prepare(ReadOnlyAddressBook addressBook) throws CommandException {
+        export(addressBook);
+        isExported = true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
+        if (!isExported) {
+            export(model.getAddressBook());
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, exportName));
+    }
+
+    /**
+     * Writes the persons of {@code addressBook} with all the tags to the export file.
+     */
+    private void export(ReadOnlyAddressBook addressBook) throws CommandException {
         initializeExport();
 
-        ObservableList<Person> personList = model.getAddressBook().getPersonList();
+        ObservableList<Person> personList = addressBook.getPersonList();
 
         Stream<Person> filteredPersonStream = personList.stream().filter(this::hasTags);
 
@@ -71,8 +91,6 @@ public class ExportCommand extends Command {
         } else {
             this.saveAsJson(filteredPersonStream);
         }
-
-        return new CommandResult(String.format(MESSAGE_SUCCESS, exportName));
     }
 
     /**
@@ -13,7 +13,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.CsvAddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 
 /**
  * Imports a save file to the address book.
@@ -37,6 +37,8 @@ public class ImportCommand extends Command {
             + "filetype must be .json or .csv";
 
     private Path filepath;
+    // read by prepare, so that the file is not read on the application thread
+    private ReadOnlyAddressBook importedAddressBook;
 
     /**
      * Creates an ImportCommand to import the specified save file
@@ -46,14 +48,17 @@ public class ImportCommand extends Command {
         this.filepath = filepath;
     }
 
+    @Override
+    public void prepare(ReadOnlyAddressBook addressBook) throws CommandException {
+        checkFileType();
+        importedAddressBook = readFile();
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        // throw exception if file is not a csv or json file
-        if (!this.filepath.toString().endsWith(".csv") && !this.filepath.toString().endsWith(".json")) {
-            throw new CommandException(MESSAGE_INVALID_FILETYPE);
-        }
+        checkFileType();
 
         if (this.filepath.toString().endsWith(".csv")) {
             model.saveAddressBookState();
@@ -72,14 +77,8 @@ public class ImportCommand extends Command {
      * @throws CommandException if an invalid file was provided
      */
     public CommandResult importJson(Model model) throws CommandException {
-        AddressBookStorage newAddressStorage = new JsonAddressBookStorage(filepath);
-        try {
-            ReadOnlyAddressBook newAddressBook = newAddressStorage.readAddressBook().get();
-            model.setAddressBook(newAddressBook);
-            model.setAddressBookFilePath(filepath);
-        } catch (DataLoadingException | NoSuchElementException e) {
-            throw new CommandException(ImportCommand.MESSAGE_INVALID_FILE);
-        }
+        model.setAddressBook(takeImportedAddressBook());
+        model.setAddressBookFilePath(filepath);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, filepath.toString().replace('\\',
                 '/'), false, false, true));
@@ -93,15 +92,42 @@ public class ImportCommand extends Command {
      * @throws CommandException if an invalid file was provided
      */
     public CommandResult importCsv(Model model) throws CommandException {
-        AddressBookStorage newAddressStorage = new CsvAddressBookStorage(filepath);
+        model.setAddressBook(takeImportedAddressBook());
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, filepath.toString().replace('\\', '/')));
+    }
+
+    /**
+     * Throws a {@code CommandException} if the file is not a csv or json file.
+     */
+    private void checkFileType() throws CommandException {
+        if (!this.filepath.toString().endsWith(".csv") && !this.filepath.toString().endsWith(".json")) {
+            throw new CommandException(MESSAGE_INVALID_FILETYPE);
+        }
+    }
+
+    /**
+     * Returns the address book read when the command was prepared, or reads it now if it was not prepared.
+     */
+    private ReadOnlyAddressBook takeImportedAddressBook() throws CommandException {
+        ReadOnlyAddressBook addressBook = importedAddressBook;
+        importedAddressBook = null;
+        return addressBook != null ? addressBook : readFile();
+    }
+
+    /**
+     * Reads the file to import. A json file is read together with its journal, if it has one, as the data file of the
+     * app only has its latest changes merged into it on compaction.
+     */
+    private ReadOnlyAddressBook readFile() throws CommandException {
+        AddressBookStorage newAddressStorage = this.filepath.toString().endsWith(".csv")
+                ? new CsvAddressBookStorage(filepath)
+                : new JournalAddressBookStorage(filepath);
         try {
-            ReadOnlyAddressBook newAddressBook = newAddressStorage.readAddressBook().get();
-            model.setAddressBook(newAddressBook);
+            return newAddressStorage.readAddressBook().get();
         } catch (DataLoadingException | NoSuchElementException e) {
             throw new CommandException(ImportCommand.MESSAGE_INVALID_FILE);
         }
-
-        return new CommandResult(String.format(MESSAGE_SUCCESS, filepath.toString().replace('\\', '/')));
     }
 
     @Override
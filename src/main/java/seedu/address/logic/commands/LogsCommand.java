@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.LogIndex;
+import seedu.address.model.person.LogIndex.Interaction;
+
+/**
+ * Lists the interactions logged within a range of dates, and the persons they were logged for.
+ */
+public class LogsCommand extends Command {
+
+    public static final String COMMAND_WORD = "logs";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the interactions logged from the start date "
+            + "to the end date, both inclusive, optionally only those of the given type, and the contacts they were "
+            + "logged for.\n"
+            + "Parameters: from/START_DATE to/END_DATE [t/TYPE] (dates in the format YYYY-MM-DD)\n"
+            + "Example: " + COMMAND_WORD + " from/2026-10-01 to/2026-10-07 t/call";
+
+    public static final String MESSAGE_SUCCESS = "%1$d interactions with %2$d persons logged from %3$s to %4$s";
+    public static final String MESSAGE_INVALID_RANGE = "The start date must not be after the end date.";
+
+    /** The number of interactions found that are listed in the result, oldest first. */
+    public static final int MAX_LISTED_INTERACTIONS = 10;
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Optional<String> type;
+
+    /**
+     * Creates a LogsCommand to list the interactions logged from {@code from} to {@code to}, both inclusive, that are
+     * of {@code type} ignoring case, if it is present.
+     */
+    public LogsCommand(LocalDate from, LocalDate to, Optional<String> type) {
+        requireAllNonNull(from, to, type);
+        this.from = from;
+        this.to = to;
+        this.type = type;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (from.isAfter(to)) {
+            throw new CommandException(MESSAGE_INVALID_RANGE);
+        }
+
+        LogIndex logIndex = model.getAddressBook().getLogIndex();
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        List<Interaction> interactions = type.isPresent()
+                ? logIndex.getInteractionsBetween(start, end, type.get())
+                : logIndex.getInteractionsBetween(start, end);
+
+        // persons are matched by identity key, so that they stay shown when edited, e.g. pinned
+        Set<String> identityKeys = new HashSet<>();
+        for (Interaction interaction : interactions) {
+            identityKeys.add(interaction.getPerson().getIdentityKey());
+        }
+        model.updateFilteredPersonList(person -> identityKeys.contains(person.getIdentityKey()));
+
+        StringBuilder message = new StringBuilder(
+                String.format(MESSAGE_SUCCESS, interactions.size(), identityKeys.size(), from, to));
+        for (int i = 0; i < Math.min(interactions.size(), MAX_LISTED_INTERACTIONS); i++) {
+            message.append("\n").append(interactions.get(i).getEntry()).append(" - ")
+                    .append(interactions.get(i).getPerson().getName());
+        }
+        if (interactions.size() > MAX_LISTED_INTERACTIONS) {
+            message.append("\n...and ").append(interactions.size() - MAX_LISTED_INTERACTIONS).append(" more");
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LogsCommand)) {
+            return false;
+        }
+
+        LogsCommand otherLogsCommand = (LogsCommand) other;
+        return from.equals(otherLogsCommand.from)
+                && to.equals(otherLogsCommand.to)
+                && type.equals(otherLogsCommand.type);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .add("type", type)
+                .toString();
+    }
+}
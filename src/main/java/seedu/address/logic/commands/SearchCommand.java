@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.FullTextIndex.Result;
+
+/**
+ * Searches the notes and interaction logs of all persons for any of the argument words, and lists the persons found,
+ * most relevant first. Word matching is case insensitive.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose notes or interaction logs "
+            + "contain any of the specified words (case-insensitive), and shows the most relevant persons first.\n"
+            + "Parameters: WORD [MORE_WORDS]...\n"
+            + "Example: " + COMMAND_WORD + " catering quote";
+
+    public static final String MESSAGE_SUCCESS = "%1$d persons found, most relevant first:";
+
+    /** The number of persons found that are named in the result, most relevant first. */
+    public static final int MAX_NAMED_RESULTS = 10;
+
+    private final String query;
+
+    public SearchCommand(String query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Result> results = model.getAddressBook().getFullTextIndex().search(query);
+
+        model.updateFilteredPersonListByRank(results.stream().map(Result::getPerson).collect(Collectors.toList()));
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, results.size()));
+        for (int i = 0; i < Math.min(results.size(), MAX_NAMED_RESULTS); i++) {
+            message.append("\n").append(i + 1).append(". ").append(results.get(i).getPerson().getName());
+        }
+        if (results.size() > MAX_NAMED_RESULTS) {
+            message.append("\n...and ").append(results.size() - MAX_NAMED_RESULTS).append(" more");
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return query.equals(otherSearchCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -5,12 +5,13 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_FIELD;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.List;
 
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
-import seedu.address.model.person.Field;
-import seedu.address.model.person.Order;
-import seedu.address.model.person.Person;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.SortOrder;
 
 /**
  * Lists all persons in the address book to the user in a specified sorted order.
@@ -19,28 +20,31 @@ public class SortCommand extends Command {
 
     public static final String COMMAND_WORD = "sort";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all persons by the specified field "
-            + "in the specified order.\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all persons by the specified fields "
+            + "in the specified orders. Persons equal in a field are sorted by the next field.\n"
             + "Parameters: "
-            + "[" + PREFIX_FIELD + "FIELD] "
-            + "[" + PREFIX_ORDER + "ORDER]\n"
+            + "[" + PREFIX_FIELD + "FIELD [" + PREFIX_ORDER + "ORDER]]...\n"
             + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FIELD + "address "
+            + PREFIX_ORDER + "asc "
             + PREFIX_FIELD + "name "
-            + PREFIX_ORDER + "asc";
+            + PREFIX_ORDER + "desc";
 
     public static final String MESSAGE_SUCCESS = "Sorted all persons";
 
-    private final Field field;
-    private final Order order;
+    private final SortOrder sortOrder;
 
     /**
-     * Constructs a SortCommand from a specified field and order.
-     * @param field Field to use for sorting
-     * @param order Order to use for sorting
+     * Constructs a SortCommand from the specified fields and orders.
+     * @param sortOrder Fields and orders to use for sorting
      */
-    public SortCommand(Field field, Order order) {
-        this.field = requireNonNull(field);
-        this.order = requireNonNull(order);
+    public SortCommand(SortOrder sortOrder) {
+        this.sortOrder = requireNonNull(sortOrder);
+    }
+
+    @Override
+    public void prepare(ReadOnlyAddressBook addressBook) {
+        sortOrder.computeKeys(addressBook.getPersonList());
     }
 
     @Override
@@ -50,47 +54,39 @@ public class SortCommand extends Command {
         // don't filter person list
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
-        // build and apply comparator
-        Comparator<Person> comparator = buildComparator();
-        model.sortFilteredPersonList(comparator);
+        model.sortFilteredPersonList(sortOrder);
 
-        return new CommandResult(MESSAGE_SUCCESS + " by " + field.toString() + " in " + order.toString() + " order");
+        return new CommandResult(MESSAGE_SUCCESS + " by " + describeSortOrder());
     }
 
     /**
-     * Constructs the appropriate Comparator given a specific field and order.
-     * @return The constructed Comparator.
+     * Describes each field of the sort order with its order, e.g. "name in ascending order".
      */
-    private Comparator<Person> buildComparator() {
-        Comparator<Person> base;
-
-        // sort by specific field
-        switch(field.value) {
-        case NAME:
-            base = Comparator.comparing(p -> p.getName().fullName, String.CASE_INSENSITIVE_ORDER);
-            break;
-        case PHONE:
-            base = Comparator.comparing(p -> p.getPhone().value, String.CASE_INSENSITIVE_ORDER);
-            break;
-        case EMAIL:
-            base = Comparator.comparing(p -> p.getEmail().value, String.CASE_INSENSITIVE_ORDER);
-            break;
-        case TELEGRAM:
-            base = Comparator.comparing(p -> p.getTelegramHandle().value, String.CASE_INSENSITIVE_ORDER);
-            break;
-        case ADDRESS:
-            base = Comparator.comparing(p -> p.getAddress().value, String.CASE_INSENSITIVE_ORDER);
-            break;
-        default:
-            // should not ever reach here
-            base = Comparator.comparing(p -> p.getName().fullName, String.CASE_INSENSITIVE_ORDER);
+    private String describeSortOrder() {
+        List<String> descriptions = new ArrayList<>();
+        for (int i = 0; i < sortOrder.getFields().size(); i++) {
+            descriptions.add(sortOrder.getFields().get(i) + " in " + sortOrder.getOrders().get(i) + " order");
+        }
+        return String.join(", then ", descriptions);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
         }
 
-        // reverse order if necessary
-        if (order.value == Order.OrderValue.DESC) {
-            base = base.reversed();
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
         }
 
-        return base;
+        SortCommand otherSortCommand = (SortCommand) other;
+        return sortOrder.equals(otherSortCommand.sortOrder);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("sortOrder", sortOrder).toString();
     }
 }
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.logic.commands.LogsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code LogsCommand} object.
+ */
+public class LogsCommandParser implements Parser<LogsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code LogsCommand}
+     * and returns a {@code LogsCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LogsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO, PREFIX_TYPE);
+
+        if (argMultimap.getValue(PREFIX_FROM).isEmpty() || argMultimap.getValue(PREFIX_TO).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LogsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO, PREFIX_TYPE);
+        LocalDate from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        LocalDate to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        if (from.isAfter(to)) {
+            throw new ParseException(LogsCommand.MESSAGE_INVALID_RANGE);
+        }
+
+        Optional<String> type = Optional.empty();
+        if (argMultimap.getValue(PREFIX_TYPE).isPresent()) {
+            type = Optional.of(ParserUtil.parseLogType(argMultimap.getValue(PREFIX_TYPE).get()));
+        }
+
+        return new LogsCommand(from, to, type);
+    }
+}
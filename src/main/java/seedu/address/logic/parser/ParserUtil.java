@@ -5,6 +5,8 @@ import static java.util.Objects.requireNonNull;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -32,6 +34,7 @@ public class ParserUtil {
     public static final String MESSAGE_INVALID_INPUT = "Invalid input syntax - please refer to the syntax below.";
     /** The confirmation keyword required from the user to proceed with destructive operations like clear. */
     public static final String CLEAR_CONFIRMATION_MESSAGE = "confirm";
+    public static final String MESSAGE_INVALID_DATE = "Dates should be valid dates in the format YYYY-MM-DD.";
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -253,4 +256,23 @@ public class ParserUtil {
         }
         return trimmedLogType;
     }
+
+    /**
+     * Parses a {@code String date} in the format YYYY-MM-DD into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is not a valid date in that format.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        String trimmedDate = date.trim();
+        if (!trimmedDate.matches("\\d{4}-\\d{2}-\\d{2}")) {
+            throw new ParseException(MESSAGE_INVALID_DATE);
+        }
+        try {
+            return LocalDate.parse(trimmedDate);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE, e);
+        }
+    }
 }
@@ -3,47 +3,84 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FIELD;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Field;
 import seedu.address.model.person.Order;
+import seedu.address.model.person.SortOrder;
 
 /**
  * Parses input arguments and creates a new SortCommand object
  */
 public class SortCommandParser implements Parser<SortCommand> {
+    public static final String MESSAGE_TOO_MANY_ORDERS = "Each order must be given for a field";
+    public static final String MESSAGE_DUPLICATE_FIELD = "Each field can only be sorted by once";
+
     private static final Field DEFAULT_FIELD = new Field("name");
     private static final Order DEFAULT_ORDER = new Order("asc");
 
     /**
      * Parses the given {@code String} of arguments in the context of the SortCommand
      * and returns a SortCommand object for execution.
+     * Each order applies to the field given just before it, and fields without an order are sorted in the default
+     * order. If no field is given, an order applies to the default field.
      * @throws ParseException if the user input does not conform the expected format
      */
     public SortCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FIELD, PREFIX_ORDER);
-
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FIELD, PREFIX_ORDER);
+        // orders are tokenized within the text of each field, so that they stay paired with the field before them
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FIELD);
+        ArgumentMultimap preambleMultimap = tokenizeOrders(argMultimap.getPreamble());
 
         // only allow empty preamble, user should not input other text
-        if (!argMultimap.getPreamble().isEmpty()) {
+        if (!preambleMultimap.getPreamble().isEmpty()) {
             throw new ParseException(
                     String.format("Invalid command format! Usage: %s", SortCommand.MESSAGE_USAGE));
         }
 
         // default order
-        Field field = DEFAULT_FIELD;
-        Order order = DEFAULT_ORDER;
-
-        if (argMultimap.getValue(PREFIX_FIELD).isPresent()) {
-            field = ParserUtil.parseField(argMultimap.getValue(PREFIX_FIELD).get());
+        List<String> fieldArgs = argMultimap.getAllValues(PREFIX_FIELD);
+        if (fieldArgs.isEmpty()) {
+            return new SortCommand(new SortOrder(List.of(DEFAULT_FIELD), List.of(parseOrder(preambleMultimap))));
+        }
+        if (!preambleMultimap.getAllValues(PREFIX_ORDER).isEmpty()) {
+            throw new ParseException(MESSAGE_TOO_MANY_ORDERS);
         }
 
-        if (argMultimap.getValue(PREFIX_ORDER).isPresent()) {
-            order = ParserUtil.parseOrder(argMultimap.getValue(PREFIX_ORDER).get());
+        List<Field> fields = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+        for (String fieldArg : fieldArgs) {
+            ArgumentMultimap fieldMultimap = tokenizeOrders(fieldArg);
+            fields.add(ParserUtil.parseField(fieldMultimap.getPreamble()));
+            orders.add(parseOrder(fieldMultimap));
+        }
+        if (new HashSet<>(fields).size() < fields.size()) {
+            throw new ParseException(MESSAGE_DUPLICATE_FIELD);
         }
 
-        return new SortCommand(field, order);
+        return new SortCommand(new SortOrder(fields, orders));
+    }
+
+    /**
+     * Tokenizes the orders in {@code text}, which is the value of a field or the preamble.
+     */
+    private static ArgumentMultimap tokenizeOrders(String text) {
+        return ArgumentTokenizer.tokenize(" " + text, PREFIX_ORDER);
+    }
+
+    /**
+     * Parses the order in {@code argMultimap}, or returns the default order if there is none.
+     * @throws ParseException if more than one order is given, or the order is invalid
+     */
+    private static Order parseOrder(ArgumentMultimap argMultimap) throws ParseException {
+        List<String> orders = argMultimap.getAllValues(PREFIX_ORDER);
+        if (orders.size() > 1) {
+            throw new ParseException(MESSAGE_TOO_MANY_ORDERS);
+        }
+        return orders.isEmpty() ? DEFAULT_ORDER : ParserUtil.parseOrder(orders.get(0));
     }
 
 }
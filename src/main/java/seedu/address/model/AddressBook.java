@@ -3,10 +3,16 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.FullTextIndex;
+import seedu.address.model.person.LogIndex;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
+import seedu.address.model.person.TagIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -16,6 +22,8 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private long modificationCount;
+    private AddressBookChange lastChange = AddressBookChange.start();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,15 +54,35 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        modificationCount++;
+        lastChange = AddressBookChange.start();
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Data that comes from the model itself, such as another {@code AddressBook} or a snapshot of one, is known to
+     * be free of duplicates and is restored without checking it again.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        if (newData instanceof AddressBookSnapshot) {
+            persons.restoreSnapshot(((AddressBookSnapshot) newData).getPersons());
+        } else if (newData instanceof AddressBook) {
+            persons.setPersons(((AddressBook) newData).persons);
+        } else {
+            persons.setPersons(newData.getPersonList());
+        }
+        modificationCount++;
+        lastChange = AddressBookChange.start();
+    }
+
+    /**
+     * Returns an immutable snapshot of the current data of this {@code AddressBook}.
+     * The snapshot shares structure with this address book, so it is taken in O(1) time without copying any data.
+     */
+    public ReadOnlyAddressBook createSnapshot() {
+        return new AddressBookSnapshot(persons.snapshot(), lastChange);
     }
 
     //// person-level operations
@@ -72,7 +100,17 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        addPerson(persons.asUnmodifiableObservableList().size(), p);
+    }
+
+    /**
+     * Inserts a person into the address book at {@code index}.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+        modificationCount++;
+        lastChange = lastChange.then(index, 0, List.of(p));
     }
 
     /**
@@ -83,19 +121,80 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        int index = persons.setPerson(target, editedPerson);
+        modificationCount++;
+        lastChange = lastChange.then(index, 1, List.of(editedPerson));
     }
 
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
+     *
+     * @return The index {@code key} was removed from.
      */
-    public void removePerson(Person key) {
-        persons.remove(key);
+    public int removePerson(Person key) {
+        int index = persons.remove(key);
+        modificationCount++;
+        lastChange = lastChange.then(index, 1, List.of());
+        return index;
     }
 
     //// util methods
 
+    /**
+     * Returns the number of modifications made to this {@code AddressBook} since it was created.
+     * Two calls return the same value only if the data was not modified in between.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public Optional<AddressBookChange> getLastChange() {
+        return Optional.of(lastChange);
+    }
+
+    /**
+     * Returns the index of the persons carrying each tag, which follows later changes to this address book.
+     */
+    @Override
+    public TagIndex getTagIndex() {
+        return persons.getTagIndex();
+    }
+
+    /**
+     * Returns the index of the words in the names of the persons, which follows later changes to this address book.
+     */
+    @Override
+    public NameIndex getNameIndex() {
+        return persons.getNameIndex();
+    }
+
+    /**
+     * Returns the statistics of the persons, which follow later changes to this address book.
+     */
+    @Override
+    public PersonStatistics getStatistics() {
+        return persons.getStatistics();
+    }
+
+    /**
+     * Returns the index of the log entries of the persons, which follows later changes to this address book.
+     */
+    @Override
+    public LogIndex getLogIndex() {
+        return persons.getLogIndex();
+    }
+
+    /**
+     * Returns the index of the words in the notes and log messages of the persons, which follows later changes to this
+     * address book.
+     */
+    @Override
+    public FullTextIndex getFullTextIndex() {
+        return persons.getFullTextIndex();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -0,0 +1,99 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.person.PersistentPersonList;
+import seedu.address.model.person.Person;
+
+/**
+ * A change made to the persons of an {@code AddressBook}, which replaced {@code removedCount} persons starting at
+ * {@code index} with the persons added. Guarantees: immutable.
+ *
+ * Each change is linked to the change made before it, so that the changes made since an earlier version of an address
+ * book are listed without comparing the two versions. The chain starts again whenever the persons are replaced as a
+ * whole, and after {@link #MAX_CHAIN_LENGTH} changes, so that it does not keep every change ever made.
+ */
+public final class AddressBookChange {
+
+    static final int MAX_CHAIN_LENGTH = 1000;
+
+    // null for the first change of a chain, which stands for the persons as they were when the chain started
+    private final AddressBookChange previous;
+    private final int chainLength;
+    private final int index;
+    private final int removedCount;
+    private final List<Person> addedPersons;
+
+    private AddressBookChange(AddressBookChange previous, int index, int removedCount, List<Person> addedPersons) {
+        this.previous = previous;
+        this.chainLength = previous == null ? 0 : previous.chainLength + 1;
+        this.index = index;
+        this.removedCount = removedCount;
+        this.addedPersons = addedPersons;
+    }
+
+    /**
+     * Returns the start of a new chain of changes.
+     */
+    static AddressBookChange start() {
+        return new AddressBookChange(null, 0, 0, List.of());
+    }
+
+    /**
+     * Returns the change made after this one that replaced {@code removedCount} persons starting at {@code index}
+     * with {@code addedPersons}. If the chain is too long, it is started again.
+     */
+    AddressBookChange then(int index, int removedCount, List<Person> addedPersons) {
+        AddressBookChange previousChange = chainLength < MAX_CHAIN_LENGTH ? this : start();
+        return new AddressBookChange(previousChange, index, removedCount, List.copyOf(addedPersons));
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    public List<Person> getAddedPersons() {
+        return addedPersons;
+    }
+
+    /**
+     * Returns the changes made after {@code earlier} up to and including this one, oldest first, if {@code earlier}
+     * is in the same chain as this change. This takes time proportional to the number of changes returned.
+     */
+    public Optional<List<AddressBookChange>> getChangesSince(AddressBookChange earlier) {
+        requireNonNull(earlier);
+        List<AddressBookChange> changes = new ArrayList<>();
+        for (AddressBookChange change = this; change != earlier; change = change.previous) {
+            if (change.previous == null) {
+                return Optional.empty();
+            }
+            changes.add(change);
+        }
+        Collections.reverse(changes);
+        return Optional.of(changes);
+    }
+
+    /**
+     * Returns {@code persons} with this change applied, which takes O(k log n) time for k persons removed and added.
+     */
+    public PersistentPersonList applyTo(PersistentPersonList persons) {
+        requireNonNull(persons);
+        PersistentPersonList changedPersons = persons;
+        for (int i = 0; i < removedCount; i++) {
+            changedPersons = changedPersons.remove(index);
+        }
+        for (int i = 0; i < addedPersons.size(); i++) {
+            changedPersons = changedPersons.add(index + i, addedPersons.get(i));
+        }
+        return changedPersons;
+    }
+}
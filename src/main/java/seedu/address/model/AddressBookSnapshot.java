@@ -0,0 +1,55 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.PersistentPersonList;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable view of the contents of an {@code AddressBook} at the moment it was taken.
+ * Snapshots share their structure with the address book they were taken from, so they are cheap to create and hold.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentPersonList persons;
+    private final AddressBookChange lastChange;
+    private ObservableList<Person> personList;
+
+    AddressBookSnapshot(PersistentPersonList persons, AddressBookChange lastChange) {
+        requireAllNonNull(persons, lastChange);
+        this.persons = persons;
+        this.lastChange = lastChange;
+    }
+
+    PersistentPersonList getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the persons in this snapshot. The list is only built the first time it is requested.
+     */
+    @Override
+    public synchronized ObservableList<Person> getPersonList() {
+        if (personList == null) {
+            personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.toList()));
+        }
+        return personList;
+    }
+
+    @Override
+    public Optional<AddressBookChange> getLastChange() {
+        return Optional.of(lastChange);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
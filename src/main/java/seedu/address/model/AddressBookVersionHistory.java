@@ -1,38 +1,86 @@
 package seedu.address.model;
 
-import java.util.Stack;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.model.person.Person;
 
 /**
  * Manages version history of AddressBook states for undo/redo functionality.
  * Maintains two stacks: one for past states (undo) and one for future states (redo).
+ *
+ * Instead of copies of the whole address book, each state is kept as the list of changes made after it was saved.
+ * Every change knows how to reverse itself, so undoing or redoing a state only touches the persons that were changed,
+ * and a deep history costs memory proportional to the number of changes rather than to the size of the address book.
  */
 public class AddressBookVersionHistory {
 
-    private static final int MAX_HISTORY_SIZE = 50;
-    private final Stack<ReadOnlyAddressBook> undoStack;
-    private final Stack<ReadOnlyAddressBook> redoStack;
+    private static final int MAX_HISTORY_SIZE = 1000;
+    private final Deque<List<Operation>> undoStack;
+    private final Deque<List<Operation>> redoStack;
+    private List<Operation> currentChanges;
 
     /**
      * Creates an empty version history.
      */
     public AddressBookVersionHistory() {
-        undoStack = new Stack<>();
-        redoStack = new Stack<>();
+        undoStack = new ArrayDeque<>();
+        redoStack = new ArrayDeque<>();
     }
 
     /**
      * Saves the current state before making changes.
-     *
-     * @param currentState The current state to save.
+     * Changes recorded after this call are undone together.
      */
-    public void saveState(ReadOnlyAddressBook currentState) {
-        undoStack.push(new AddressBook(currentState));
+    public void saveState() {
+        currentChanges = new ArrayList<>();
+        undoStack.push(currentChanges);
         redoStack.clear();
         if (undoStack.size() > MAX_HISTORY_SIZE) {
-            undoStack.remove(0);
+            undoStack.removeLast();
         }
     }
 
+    /**
+     * Records that {@code person} was appended to the address book.
+     */
+    public void recordAdd(Person person) {
+        requireNonNull(person);
+        record(new AddOperation(person));
+    }
+
+    /**
+     * Records that {@code person} was removed from position {@code index} of the address book.
+     */
+    public void recordRemove(int index, Person person) {
+        requireNonNull(person);
+        record(new RemoveOperation(index, person));
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedPerson} in the address book.
+     */
+    public void recordSet(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        record(new SetOperation(target, editedPerson));
+    }
+
+    /**
+     * Records that the data of the address book was replaced as a whole.
+     *
+     * @param oldData A snapshot of the data before the replacement.
+     * @param newData A snapshot of the data after the replacement.
+     */
+    public void recordReset(ReadOnlyAddressBook oldData, ReadOnlyAddressBook newData) {
+        requireAllNonNull(oldData, newData);
+        record(new ResetOperation(oldData, newData));
+    }
+
     /**
      * Checks if undo operation is available.
      *
@@ -52,25 +100,126 @@ public class AddressBookVersionHistory {
     }
 
     /**
-     * Performs undo operation by retrieving the previous state.
+     * Performs undo operation by reverting the changes made since the previous state was saved.
      *
-     * @param currentState The current state to save for redo.
-     * @return The previous state from undo stack.
+     * @param addressBook The address book to revert.
      */
-    public ReadOnlyAddressBook undo(ReadOnlyAddressBook currentState) {
-        redoStack.push(new AddressBook(currentState));
-        return undoStack.pop();
+    public void undo(AddressBook addressBook) {
+        List<Operation> changes = undoStack.pop();
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert(addressBook);
+        }
+        redoStack.push(changes);
+        currentChanges = null;
     }
 
     /**
-     * Performs redo operation by retrieving state in redo stack.
+     * Performs redo operation by reapplying the changes that were last undone.
      *
-     * @param currentState The current state to save for redo.
-     * @return The previous state from redo stack.
+     * @param addressBook The address book to reapply the changes to.
      */
-    public ReadOnlyAddressBook redo(ReadOnlyAddressBook currentState) {
-        undoStack.push(new AddressBook(currentState));
-        return redoStack.pop();
+    public void redo(AddressBook addressBook) {
+        List<Operation> changes = redoStack.pop();
+        for (Operation change : changes) {
+            change.apply(addressBook);
+        }
+        undoStack.push(changes);
+        currentChanges = null;
+    }
+
+    private void record(Operation operation) {
+        // changes made before any state is saved, or right after an undo or redo, are undone on their own
+        if (currentChanges == null) {
+            saveState();
+        }
+        currentChanges.add(operation);
+    }
+
+    /**
+     * A change made to an address book that can be reverted and reapplied.
+     */
+    private interface Operation {
+        void apply(AddressBook addressBook);
+
+        void revert(AddressBook addressBook);
+    }
+
+    private static class AddOperation implements Operation {
+        private final Person person;
+
+        AddOperation(Person person) {
+            this.person = person;
+        }
+
+        @Override
+        public void apply(AddressBook addressBook) {
+            addressBook.addPerson(person);
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+    }
+
+    private static class RemoveOperation implements Operation {
+        private final int index;
+        private final Person person;
+
+        RemoveOperation(int index, Person person) {
+            this.index = index;
+            this.person = person;
+        }
+
+        @Override
+        public void apply(AddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.addPerson(index, person);
+        }
+    }
+
+    private static class SetOperation implements Operation {
+        private final Person target;
+        private final Person editedPerson;
+
+        SetOperation(Person target, Person editedPerson) {
+            this.target = target;
+            this.editedPerson = editedPerson;
+        }
+
+        @Override
+        public void apply(AddressBook addressBook) {
+            addressBook.setPerson(target, editedPerson);
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.setPerson(editedPerson, target);
+        }
+    }
+
+    private static class ResetOperation implements Operation {
+        private final ReadOnlyAddressBook oldData;
+        private final ReadOnlyAddressBook newData;
+
+        ResetOperation(ReadOnlyAddressBook oldData, ReadOnlyAddressBook newData) {
+            this.oldData = oldData;
+            this.newData = newData;
+        }
+
+        @Override
+        public void apply(AddressBook addressBook) {
+            addressBook.resetData(newData);
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.resetData(oldData);
+        }
     }
 
 }
@@ -1,12 +1,13 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
-import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SortOrder;
 
 /**
  * The API of the Model component.
@@ -53,6 +54,17 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a count that changes whenever the address book data is modified.
+     * Two calls return the same value only if the data was not modified in between.
+     */
+    long getAddressBookModificationCount();
+
+    /**
+     * Returns an immutable snapshot of the current AddressBook, which is not affected by later modifications.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -86,6 +98,29 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show only persons with a tag named by any of
+     * {@code tagNames}, ignoring case. Matching persons are looked up in an index of the persons carrying each tag.
+     * @throws NullPointerException if {@code tagNames} is null.
+     */
+    void updateFilteredPersonListByTags(List<String> tagNames);
+
+    /**
+     * Updates the filter of the filtered person list to show only persons with a name matching any of
+     * {@code keywords}, as defined by {@code NameContainsKeywordsPredicate}. Matching persons are looked up in an
+     * index of the words in their names.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredPersonListByName(List<String> keywords);
+
+    /**
+     * Updates the filter of the filtered person list to show only the persons in {@code rankedPersons}, matched by
+     * identity key so that they stay shown when edited, and orders them as they are ranked there after the pinned
+     * persons. The ranking lasts until the list is filtered or sorted again.
+     * @throws NullPointerException if {@code rankedPersons} is null.
+     */
+    void updateFilteredPersonListByRank(List<Person> rankedPersons);
+
     /**
      * Saves the current state of the address book for undo functionality.
      */
@@ -111,6 +146,8 @@ public interface Model {
      */
     void redoAddressBook();
 
-
-    void sortFilteredPersonList(Comparator<Person> comparator);
+    /**
+     * Sorts the filtered person list by {@code sortOrder}, or only puts pinned persons first if it is null.
+     */
+    void sortFilteredPersonList(SortOrder sortOrder);
 }
@@ -4,7 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,6 +19,9 @@ import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RankOrder;
+import seedu.address.model.person.RefiningPredicate;
+import seedu.address.model.person.SortOrder;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -28,6 +35,11 @@ public class ModelManager implements Model {
     private final SortedList<Person> sortedPersons;
     private final ObservableList<Person> unmodifiableSortedPersons;
     private final AddressBookVersionHistory versionHistory;
+    // the predicate last applied to filteredPersons, which may wrap it in a Refinement
+    private Predicate<Person> filterPredicate = PREDICATE_SHOW_ALL_PERSONS;
+    // the order last chosen to sort by, which a ranking of the filtered persons only replaces until the next filter
+    private Comparator<Person> sortOrder = SortOrder.DEFAULT;
+    private boolean isRanked;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -43,10 +55,7 @@ public class ModelManager implements Model {
         this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         this.sortedPersons = new SortedList<>(filteredPersons);
         // Set default comparator to show pinned contacts first followed by name ascending
-        this.sortedPersons.setComparator(
-                Comparator.comparing(Person::isPinned).reversed()
-                        .thenComparing(p -> p.getName().fullName, String.CASE_INSENSITIVE_ORDER)
-        );
+        this.sortedPersons.setComparator(sortOrder);
         this.unmodifiableSortedPersons = FXCollections.unmodifiableObservableList(sortedPersons);
     }
 
@@ -93,7 +102,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        ReadOnlyAddressBook oldData = this.addressBook.createSnapshot();
         this.addressBook.resetData(addressBook);
+        versionHistory.recordReset(oldData, this.addressBook.createSnapshot());
     }
 
     @Override
@@ -101,6 +112,16 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.createSnapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -109,12 +130,14 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        int index = addressBook.removePerson(target);
+        versionHistory.recordRemove(index, target);
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        versionHistory.recordAdd(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -123,6 +146,7 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        versionHistory.recordSet(target, editedPerson);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -139,14 +163,60 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        applyFilter(predicate);
+    }
+
+    @Override
+    public void updateFilteredPersonListByTags(List<String> tagNames) {
+        requireNonNull(tagNames);
+        applyFilter(addressBook.getTagIndex().createAnyTagPredicate(tagNames));
+    }
+
+    @Override
+    public void updateFilteredPersonListByName(List<String> keywords) {
+        requireNonNull(keywords);
+        applyFilter(addressBook.getNameIndex().createNamePredicate(keywords));
+    }
+
+    @Override
+    public void updateFilteredPersonListByRank(List<Person> rankedPersons) {
+        requireNonNull(rankedPersons);
+        RankOrder rankOrder = new RankOrder(rankedPersons);
+        applyFilter(rankOrder::isRanked);
+        sortedPersons.setComparator(rankOrder);
+        isRanked = true;
+    }
+
+    /**
+     * Filters the person list by {@code predicate}, and sorts it by the order last chosen if it was ranked.
+     * If the predicate refines the one currently applied, only the persons currently shown are tested against it,
+     * as no other person can be accepted.
+     */
+    private void applyFilter(Predicate<Person> predicate) {
+        if (isRanked) {
+            sortedPersons.setComparator(sortOrder);
+            isRanked = false;
+        }
+        boolean isRefinement = filterPredicate != PREDICATE_SHOW_ALL_PERSONS
+                && predicate instanceof RefiningPredicate
+                && ((RefiningPredicate) predicate).refines(filterPredicate);
+        filterPredicate = predicate;
+        if (!isRefinement) {
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+
+        logger.fine("Refining the filtered person list from " + filteredPersons.size() + " persons");
+        Refinement refinement = new Refinement(predicate, filteredPersons);
+        filteredPersons.setPredicate(refinement);
+        refinement.finish();
     }
 
     //=========== Undo ==================================================================================
 
     @Override
     public void saveAddressBookState() {
-        versionHistory.saveState(addressBook);
+        versionHistory.saveState();
     }
 
     @Override
@@ -159,7 +229,7 @@ public class ModelManager implements Model {
         if (!canUndoAddressBook()) {
             throw new IllegalStateException("No states available to undo.");
         }
-        addressBook.resetData(versionHistory.undo(addressBook));
+        versionHistory.undo(addressBook);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -172,7 +242,7 @@ public class ModelManager implements Model {
         if (!canRedoAddressBook()) {
             throw new IllegalStateException("No states available to redo.");
         }
-        addressBook.resetData(versionHistory.redo(addressBook));
+        versionHistory.redo(addressBook);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -184,13 +254,11 @@ public class ModelManager implements Model {
     };
 
     @Override
-    public void sortFilteredPersonList(Comparator<Person> comparator) {
-        // Chain the comparator to ensure pinned contacts remain at the top
-        Comparator<Person> pinnedFirstComparator = Comparator.comparing(Person::isPinned).reversed();
-        if (comparator != null) {
-            pinnedFirstComparator = pinnedFirstComparator.thenComparing(comparator);
-        }
-        sortedPersons.setComparator(pinnedFirstComparator);
+    public void sortFilteredPersonList(SortOrder sortOrder) {
+        // every sort order keeps pinned contacts at the top
+        this.sortOrder = sortOrder == null ? SortOrder.PINNED_FIRST : sortOrder;
+        sortedPersons.setComparator(this.sortOrder);
+        isRanked = false;
     };
 
     @Override
@@ -210,4 +278,37 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    /**
+     * Tests persons against a predicate that refines the one the filtered list was last filtered by. While the list
+     * is filtered again, the persons that were not shown are rejected without being tested. Once that is finished,
+     * every person is tested, so that persons added or edited later are filtered as usual.
+     */
+    private static class Refinement implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private Set<Person> shownPersons;
+
+        Refinement(Predicate<Person> predicate, List<Person> shownPersons) {
+            this.predicate = predicate;
+            // persons are compared by identity, as the shown persons are the very instances in the list
+            this.shownPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+            this.shownPersons.addAll(shownPersons);
+        }
+
+        void finish() {
+            shownPersons = null;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (shownPersons != null && !shownPersons.contains(person)) {
+                return false;
+            }
+            return predicate.test(person);
+        }
+
+        @Override
+        public String toString() {
+            return predicate.toString();
+        }
+    }
 }
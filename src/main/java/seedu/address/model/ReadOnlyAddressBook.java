@@ -1,7 +1,14 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.person.FullTextIndex;
+import seedu.address.model.person.LogIndex;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
+import seedu.address.model.person.TagIndex;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +21,51 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the statistics of the persons. Unless overridden, they are counted from the persons list on each call.
+     */
+    default PersonStatistics getStatistics() {
+        return PersonStatistics.of(getPersonList());
+    }
+
+    /**
+     * Returns the index of the persons carrying each tag. Unless overridden, it is built from the persons list on each
+     * call.
+     */
+    default TagIndex getTagIndex() {
+        return TagIndex.of(getPersonList());
+    }
+
+    /**
+     * Returns the index of the words in the names of the persons. Unless overridden, it is built from the persons list
+     * on each call.
+     */
+    default NameIndex getNameIndex() {
+        return NameIndex.of(getPersonList());
+    }
+
+    /**
+     * Returns the index of the log entries of the persons by their timestamps. Unless overridden, it is built from the
+     * persons list on each call.
+     */
+    default LogIndex getLogIndex() {
+        return LogIndex.of(getPersonList());
+    }
+
+    /**
+     * Returns the index of the words in the notes and log messages of the persons. Unless overridden, it is built from
+     * the persons list on each call.
+     */
+    default FullTextIndex getFullTextIndex() {
+        return FullTextIndex.of(getPersonList());
+    }
+
+    /**
+     * Returns the last change made to the persons, through which the changes made since an earlier version of this
+     * address book can be listed. Unless overridden, the changes are not known.
+     */
+    default Optional<AddressBookChange> getLastChange() {
+        return Optional.empty();
+    }
+
 }
@@ -0,0 +1,151 @@
+package seedu.address.model.person;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.EditDistanceMatcher;
+
+/**
+ * A BK-tree of values keyed by strings, which finds the values with a key within an edit distance of a query without
+ * comparing the query against every key.
+ *
+ * Each child of a node is stored under its edit distance from the node. By the triangle inequality, the keys within
+ * distance {@code k} of a query at distance {@code d} from a node can only be below the children at distances
+ * {@code d - k} to {@code d + k}, so the other children are skipped. Nodes whose values are all removed are kept to
+ * route searches, and the tree is rebuilt once most of its nodes are empty.
+ *
+ * @param <V> type of the values.
+ */
+class BkTree<V> {
+
+    private Node<V> root;
+    private int nodeCount;
+    private int emptyNodeCount;
+
+    /**
+     * Adds {@code value} under {@code key}.
+     */
+    void add(String key, V value) {
+        if (root == null) {
+            root = new Node<>(key);
+            root.values.add(value);
+            nodeCount++;
+            return;
+        }
+
+        EditDistanceMatcher keyMatcher = new EditDistanceMatcher(key);
+        Node<V> node = root;
+        while (true) {
+            int distance = keyMatcher.distance(node.key);
+            if (distance == 0) {
+                if (node.values.isEmpty()) {
+                    emptyNodeCount--;
+                }
+                node.values.add(value);
+                return;
+            }
+            Node<V> child = node.children.get(distance);
+            if (child == null) {
+                child = new Node<>(key);
+                child.values.add(value);
+                node.children.put(distance, child);
+                nodeCount++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes {@code value} from under {@code key}, if it is there.
+     */
+    void remove(String key, V value) {
+        EditDistanceMatcher keyMatcher = new EditDistanceMatcher(key);
+        Node<V> node = root;
+        while (node != null) {
+            int distance = keyMatcher.distance(node.key);
+            if (distance == 0) {
+                if (node.values.remove(value) && node.values.isEmpty()) {
+                    emptyNodeCount++;
+                    rebuildIfMostlyEmpty();
+                }
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    /**
+     * Removes all values.
+     */
+    void clear() {
+        root = null;
+        nodeCount = 0;
+        emptyNodeCount = 0;
+    }
+
+    /**
+     * Returns the values with a key within edit distance {@code maxDistance} of {@code query}.
+     */
+    List<V> search(String query, int maxDistance) {
+        List<V> result = new ArrayList<>();
+        if (root == null) {
+            return result;
+        }
+
+        EditDistanceMatcher queryMatcher = new EditDistanceMatcher(query);
+        Deque<Node<V>> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node<V> node = pending.pop();
+            int distance = queryMatcher.distance(node.key);
+            if (distance <= maxDistance) {
+                result.addAll(node.values);
+            }
+            for (Map.Entry<Integer, Node<V>> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+        return result;
+    }
+
+    private void rebuildIfMostlyEmpty() {
+        if (emptyNodeCount * 2 <= nodeCount) {
+            return;
+        }
+
+        List<Node<V>> nodes = new ArrayList<>();
+        Deque<Node<V>> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node<V> node = pending.pop();
+            nodes.add(node);
+            pending.addAll(node.children.values());
+        }
+
+        clear();
+        for (Node<V> node : nodes) {
+            for (V value : node.values) {
+                add(node.key, value);
+            }
+        }
+    }
+
+    private static class Node<V> {
+        private final String key;
+        private final Set<V> values = new HashSet<>();
+        private final Map<Integer, Node<V>> children = new HashMap<>();
+
+        Node(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -14,10 +14,13 @@ public class Field {
         EMAIL,
         TELEGRAM,
         ADDRESS,
+        LAST_CONTACTED,
+        INTERACTIONS,
         INVALID
     }
 
-    public static final String MESSAGE_CONSTRAINTS = "Field should be one of (name, phone, email, telegram, address)";
+    public static final String MESSAGE_CONSTRAINTS = "Field should be one of (name, phone, email, telegram, address, "
+            + "lastcontacted, interactions)";
 
     public final FieldValue value;
 
@@ -36,6 +39,10 @@ public class Field {
             value = FieldValue.TELEGRAM;
         } else if (field.equals("address")) {
             value = FieldValue.ADDRESS;
+        } else if (field.equals("lastcontacted")) {
+            value = FieldValue.LAST_CONTACTED;
+        } else if (field.equals("interactions")) {
+            value = FieldValue.INTERACTIONS;
         } else {
             value = FieldValue.INVALID;
         }
@@ -71,6 +78,10 @@ public class Field {
             return "telegram";
         case ADDRESS:
             return "address";
+        case LAST_CONTACTED:
+            return "lastcontacted";
+        case INTERACTIONS:
+            return "interactions";
         default:
             return "[invalid field]";
         }
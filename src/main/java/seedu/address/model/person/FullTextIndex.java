@@ -0,0 +1,266 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from each word in the notes and log messages of persons to the persons using it, kept in sync
+ * with a {@code UniquePersonList}. Persons are recorded by their identity key, and each posting counts the uses of a
+ * word in the note and in the log messages of a person separately.
+ *
+ * Searches rank persons by the BM25 relevance of their note and log messages together to the words searched for,
+ * and only read the postings of those words. When entries are logged, only the new entries are added to the index.
+ *
+ * @see Person#getIdentityKey()
+ */
+public class FullTextIndex {
+
+    // the usual BM25 parameters, for the saturation of word counts and the normalisation by text length
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Map<String, Posting>> postings = new HashMap<>();
+    private final Map<String, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    /**
+     * Returns the index of the notes and log messages of {@code persons}.
+     */
+    public static FullTextIndex of(List<Person> persons) {
+        requireNonNull(persons);
+        FullTextIndex index = new FullTextIndex();
+        index.setPersons(persons);
+        return index;
+    }
+
+    /**
+     * Returns the words of {@code text} in lower case, which are its runs of letters and digits.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Records the note and log messages of {@code person}.
+     */
+    void add(Person person) {
+        Document document = new Document(person);
+        documents.put(person.getIdentityKey(), document);
+        addNote(document);
+        addLogs(document, person.getLogs().size());
+    }
+
+    /**
+     * Removes the note and log messages of {@code person}.
+     */
+    void remove(Person person) {
+        Document document = documents.remove(person.getIdentityKey());
+        removeNote(document);
+        removeLogs(document);
+    }
+
+    /**
+     * Replaces the note and log messages of {@code target} with those of {@code editedPerson}.
+     * Only the parts that changed are indexed again.
+     */
+    void setPerson(Person target, Person editedPerson) {
+        if (!target.getIdentityKey().equals(editedPerson.getIdentityKey())) {
+            remove(target);
+            add(editedPerson);
+            return;
+        }
+
+        Document document = documents.get(target.getIdentityKey());
+        boolean isNoteChanged = !target.getNote().equals(editedPerson.getNote());
+        boolean isLogExtended = editedPerson.getLogs().isExtensionOf(target.getLogs());
+        boolean isLogReplaced = !isLogExtended && !editedPerson.getLogs().equals(target.getLogs());
+        // the words of the target are removed before the document moves on to the edited person
+        if (isNoteChanged) {
+            removeNote(document);
+        }
+        if (isLogReplaced) {
+            removeLogs(document);
+        }
+        document.person = editedPerson;
+        if (isNoteChanged) {
+            addNote(document);
+        }
+        if (isLogExtended) {
+            addLogs(document, editedPerson.getLogs().size() - target.getLogs().size());
+        } else if (isLogReplaced) {
+            addLogs(document, editedPerson.getLogs().size());
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the notes and log messages of {@code persons}.
+     */
+    void setPersons(List<Person> persons) {
+        postings.clear();
+        documents.clear();
+        totalLength = 0;
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    private void addNote(Document document) {
+        for (String token : tokenize(document.person.getNote().value)) {
+            getPosting(token, document).noteCount++;
+            document.noteLength++;
+            totalLength++;
+        }
+    }
+
+    private void removeNote(Document document) {
+        for (String token : tokenize(document.person.getNote().value)) {
+            removeUse(token, document, true);
+        }
+        totalLength -= document.noteLength;
+        document.noteLength = 0;
+    }
+
+    /**
+     * Records the messages of the newest {@code count} log entries of the person of {@code document}.
+     */
+    private void addLogs(Document document, int count) {
+        int added = 0;
+        for (LogEntry entry : document.person.getLogs().getLogs()) {
+            if (added++ == count) {
+                break;
+            }
+            for (String token : tokenize(entry.getMessage())) {
+                getPosting(token, document).logCount++;
+                document.logLength++;
+                totalLength++;
+            }
+        }
+    }
+
+    private void removeLogs(Document document) {
+        for (LogEntry entry : document.person.getLogs().getLogs()) {
+            for (String token : tokenize(entry.getMessage())) {
+                removeUse(token, document, false);
+            }
+        }
+        totalLength -= document.logLength;
+        document.logLength = 0;
+    }
+
+    private Posting getPosting(String token, Document document) {
+        return postings.computeIfAbsent(token, unused -> new HashMap<>())
+                .computeIfAbsent(document.person.getIdentityKey(), unused -> new Posting());
+    }
+
+    private void removeUse(String token, Document document, boolean isInNote) {
+        Map<String, Posting> tokenPostings = postings.get(token);
+        String identityKey = document.person.getIdentityKey();
+        Posting posting = tokenPostings.get(identityKey);
+        if (isInNote) {
+            posting.noteCount--;
+        } else {
+            posting.logCount--;
+        }
+        if (posting.getCount() == 0) {
+            tokenPostings.remove(identityKey);
+            if (tokenPostings.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Returns the persons whose note or log messages contain any of the words in {@code query}, ignoring case, most
+     * relevant first. Persons of equal relevance are ordered by their identity keys.
+     * This takes time proportional to the number of postings of the words searched for.
+     */
+    public List<Result> search(String query) {
+        requireNonNull(query);
+        Map<String, Double> scores = new HashMap<>();
+        double averageLength = documents.isEmpty() ? 0 : (double) totalLength / documents.size();
+        // each word of the query counts once, however often it is repeated
+        Set<String> tokens = new LinkedHashSet<>(tokenize(query));
+        for (String token : tokens) {
+            Map<String, Posting> tokenPostings = postings.getOrDefault(token, Map.of());
+            double idf = Math.log(1 + (documents.size() - tokenPostings.size() + 0.5) / (tokenPostings.size() + 0.5));
+            for (Map.Entry<String, Posting> entry : tokenPostings.entrySet()) {
+                int count = entry.getValue().getCount();
+                double lengthRatio = documents.get(entry.getKey()).getLength() / averageLength;
+                double score = idf * count * (K1 + 1) / (count + K1 * (1 - B + B * lengthRatio));
+                scores.merge(entry.getKey(), score, Double::sum);
+            }
+        }
+
+        List<Result> results = new ArrayList<>(scores.size());
+        for (Map.Entry<String, Double> entry : scores.entrySet()) {
+            results.add(new Result(documents.get(entry.getKey()).person, entry.getValue()));
+        }
+        results.sort(Comparator.comparingDouble(Result::getScore).reversed()
+                .thenComparing(result -> result.getPerson().getIdentityKey()));
+        return results;
+    }
+
+    /**
+     * A person found by a search, and the relevance of the person to the words searched for.
+     */
+    public static class Result {
+        private final Person person;
+        private final double score;
+
+        Result(Person person, double score) {
+            this.person = person;
+            this.score = score;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * The uses of a word by one person.
+     */
+    private static class Posting {
+        private int noteCount;
+        private int logCount;
+
+        int getCount() {
+            return noteCount + logCount;
+        }
+    }
+
+    /**
+     * The indexed text of one person, whose words are counted in its note and in its log messages.
+     */
+    private static class Document {
+        private Person person;
+        private int noteLength;
+        private int logLength;
+
+        Document(Person person) {
+            this.person = person;
+        }
+
+        int getLength() {
+            return noteLength + logLength;
+        }
+    }
+}
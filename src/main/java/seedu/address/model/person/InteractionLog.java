@@ -1,55 +1,84 @@
 package seedu.address.model.person;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Represents a collection of log entries documenting interactions with a contact.
  *
  * This class is immutable. Once constructed, the list of log entries cannot be modified directly.
  * To add a log entry, use {@code addLogEntry} which returns a new InteractionLog instance.
- * The internal list is never {@code null}.
+ *
+ * The entries are stored by column in a linked list of {@code LogChunk}s, from the newest chunk to the oldest.
+ * Adding an entry appends it to the newest chunk, or starts a new chunk in front of the existing ones, in constant
+ * time. The chunks are shared with the log the entry was added to, so that every version of a log kept by undo only
+ * costs the entries added since. Entries are created as {@code LogEntry} objects only when they are read.
  */
 public class InteractionLog {
-    private final List<LogEntry> logs;
+    // the newest chunk, or null if there are no entries
+    private final LogChunk head;
+    // the number of entries of the newest chunk in this log
+    private final int headCount;
+    private final int size;
+    // the latest timestamp of all the entries, kept as entries are added, or null if there are no entries
+    private final LocalDateTime latestTimestamp;
+    private final List<LogEntry> view = new LogView();
 
     /**
      * Creates an empty InteractionLog with no log entries.
      */
     public InteractionLog() {
-        this.logs = new ArrayList<>();
+        this(null, 0, 0, null);
     }
 
     /**
      * Creates an InteractionLog with the given list of log entries.
      * The list is defensively copied to ensure immutability.
      *
-     * @param logs the list of log entries. If null, creates an empty log.
+     * @param logs the list of log entries, newest first. If null, creates an empty log.
      */
     public InteractionLog(List<LogEntry> logs) {
-        if (logs == null) {
-            this.logs = new ArrayList<>();
-        } else {
-            this.logs = new ArrayList<>(logs);
+        InteractionLog log = new InteractionLog();
+        if (logs != null) {
+            ListIterator<LogEntry> iterator = logs.listIterator(logs.size());
+            while (iterator.hasPrevious()) {
+                log = log.addLogEntry(iterator.previous());
+            }
         }
+        this.head = log.head;
+        this.headCount = log.headCount;
+        this.size = log.size;
+        this.latestTimestamp = log.latestTimestamp;
+    }
+
+    private InteractionLog(LogChunk head, int headCount, int size, LocalDateTime latestTimestamp) {
+        this.head = head;
+        this.headCount = headCount;
+        this.size = size;
+        this.latestTimestamp = latestTimestamp;
     }
 
     /**
      * Returns an unmodifiable view of the log entries.
      * The list is sorted with newest entries first (most recent at index 0).
+     * The entries are created as they are read, so the list should be iterated rather than accessed by index.
      *
      * @return an unmodifiable list of log entries
      */
     public List<LogEntry> getLogs() {
-        return Collections.unmodifiableList(logs);
+        return view;
     }
 
     /**
      * Returns a new InteractionLog with the given log entry added.
      * The new entry is added at the beginning of the list (most recent first).
-     * This method does not modify the current InteractionLog instance.
+     * This method does not modify the current InteractionLog instance, and takes amortized constant time.
      *
      * @param entry the log entry to add. It must not be null
      * @return a new InteractionLog instance with the entry added
@@ -57,10 +86,52 @@ public class InteractionLog {
     public InteractionLog addLogEntry(LogEntry entry) {
         assert entry != null : "LogEntry should not be null";
 
-        List<LogEntry> updatedLogs = new ArrayList<>();
-        updatedLogs.add(entry); // Add new entry at the beginning
-        updatedLogs.addAll(logs); // Add existing entries after
-        return new InteractionLog(updatedLogs);
+        LocalDateTime newLatestTimestamp = latestTimestamp == null || entry.getTimestamp().isAfter(latestTimestamp)
+                ? entry.getTimestamp()
+                : latestTimestamp;
+        byte[] message = LogChunk.encodeMessage(entry);
+        if (head != null && head.tryAppend(headCount, entry, message)) {
+            return new InteractionLog(head, headCount + 1, size + 1, newLatestTimestamp);
+        }
+
+        LogChunk chunk = new LogChunk(head, headCount);
+        boolean isAppended = chunk.tryAppend(0, entry, message);
+        assert isAppended : "An entry should always fit into a new chunk";
+        return new InteractionLog(chunk, 1, size + 1, newLatestTimestamp);
+    }
+
+    /**
+     * Returns the latest timestamp of the log entries, which is kept as entries are added rather than searched for.
+     * Entries are usually added in the order they were logged, but need not be, e.g. when read from a file.
+     *
+     * @return the latest timestamp, or an empty Optional if there are no log entries
+     */
+    public Optional<LocalDateTime> getLatestTimestamp() {
+        return Optional.ofNullable(latestTimestamp);
+    }
+
+    /**
+     * Returns whether this log was created by adding entries to {@code other}, so that it holds all the entries of
+     * {@code other} followed by newer entries. This takes time proportional to the number of newer entries.
+     * A log that is equal to an extension of {@code other} but does not share its entries is not recognised.
+     */
+    boolean isExtensionOf(InteractionLog other) {
+        if (other.size > size) {
+            return false;
+        }
+        Cursor cursor = new Cursor(head, headCount);
+        for (int i = 0; i < size - other.size; i++) {
+            cursor.moveToPrevious();
+        }
+        return cursor.isAt(new Cursor(other.head, other.headCount));
+    }
+
+    /**
+     * Returns a cursor at the newest entry of this log, from which the position of each entry can be read as it
+     * moves to the older entries.
+     */
+    Cursor getCursor() {
+        return new Cursor(head, headCount);
     }
 
     /**
@@ -69,7 +140,7 @@ public class InteractionLog {
      * @return true if there are no log entries, false otherwise
      */
     public boolean isEmpty() {
-        return logs.isEmpty();
+        return size == 0;
     }
 
     /**
@@ -78,7 +149,7 @@ public class InteractionLog {
      * @return the size of the log entries list
      */
     public int size() {
-        return logs.size();
+        return size;
     }
 
     /**
@@ -94,11 +165,11 @@ public class InteractionLog {
         }
 
         StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < logs.size(); i++) {
-            sb.append(logs.get(i).toString());
-            if (i < logs.size() - 1) {
+        for (LogEntry entry : view) {
+            if (sb.length() > 0) {
                 sb.append("\n");
             }
+            sb.append(entry.toString());
         }
         return sb.toString();
     }
@@ -121,7 +192,20 @@ public class InteractionLog {
         }
 
         InteractionLog otherLog = (InteractionLog) other;
-        return logs.equals(otherLog.logs);
+        if (size != otherLog.size) {
+            return false;
+        }
+        // logs that share an entry also share all the entries logged before it
+        Cursor cursor = new Cursor(head, headCount);
+        Cursor otherCursor = new Cursor(otherLog.head, otherLog.headCount);
+        while (cursor.hasEntry() && !cursor.isAt(otherCursor)) {
+            if (!cursor.chunk.isSameEntry(cursor.index, otherCursor.chunk, otherCursor.index)) {
+                return false;
+            }
+            cursor.moveToPrevious();
+            otherCursor.moveToPrevious();
+        }
+        return true;
     }
 
     /**
@@ -131,6 +215,96 @@ public class InteractionLog {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(logs);
+        return view.hashCode();
+    }
+
+    /**
+     * The position of an entry of this log, which moves from the newest entry to the oldest.
+     */
+    static class Cursor {
+        private LogChunk chunk;
+        private int index;
+
+        /**
+         * Creates a cursor at the newest of the first {@code count} entries of {@code chunk}.
+         */
+        Cursor(LogChunk chunk, int count) {
+            this.chunk = chunk;
+            this.index = count - 1;
+            skipEmptyChunk();
+        }
+
+        boolean hasEntry() {
+            return chunk != null;
+        }
+
+        LogChunk getChunk() {
+            return chunk;
+        }
+
+        int getIndex() {
+            return index;
+        }
+
+        boolean isAt(Cursor other) {
+            return chunk == other.chunk && index == other.index;
+        }
+
+        void moveToPrevious() {
+            index--;
+            skipEmptyChunk();
+        }
+
+        private void skipEmptyChunk() {
+            if (index < 0 && chunk != null) {
+                index = chunk.previousCount - 1;
+                chunk = chunk.previous;
+            }
+        }
+    }
+
+    /**
+     * The entries of this log as an unmodifiable list, newest first.
+     */
+    private class LogView extends AbstractList<LogEntry> {
+        @Override
+        public LogEntry get(int index) {
+            Objects.checkIndex(index, size);
+            LogChunk chunk = head;
+            int count = headCount;
+            while (index >= count) {
+                index -= count;
+                count = chunk.previousCount;
+                chunk = chunk.previous;
+            }
+            return chunk.get(count - 1 - index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<LogEntry> iterator() {
+            return new Iterator<>() {
+                private final Cursor cursor = new Cursor(head, headCount);
+
+                @Override
+                public boolean hasNext() {
+                    return cursor.hasEntry();
+                }
+
+                @Override
+                public LogEntry next() {
+                    if (!cursor.hasEntry()) {
+                        throw new NoSuchElementException();
+                    }
+                    LogEntry entry = cursor.chunk.get(cursor.index);
+                    cursor.moveToPrevious();
+                    return entry;
+                }
+            };
+        }
     }
 }
@@ -0,0 +1,160 @@
+package seedu.address.model.person;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A block of log entries of an {@code InteractionLog}, stored by column instead of as one object per entry.
+ * Timestamps are kept as epoch seconds and nanoseconds, types as ids into a table of the types logged in the chunk,
+ * and messages as UTF-8 bytes in one buffer. {@code LogEntry} objects are only created when an entry is read.
+ *
+ * Entries are appended to a chunk oldest first, and never change once appended. A chunk is shared by every version
+ * of a log that holds some of its entries. Each version only reads the entries that it held when it was created, so
+ * the version with the newest entry of a chunk may append to it without affecting the others.
+ *
+ * A chunk holds up to {@link #MAX_CAPACITY} entries. Its columns start small and double in size when they are full,
+ * so that a chunk started for a single entry, e.g. when an older version of a log is added to, stays small.
+ */
+class LogChunk {
+
+    static final int MIN_CAPACITY = 4;
+    static final int MAX_CAPACITY = 1024;
+    private static final int MESSAGE_BYTES_PER_ENTRY = 32;
+
+    /** The chunk of the entries logged before the entries of this chunk, or null if there are none. */
+    final LogChunk previous;
+    /** The number of entries of {@code previous} that were logged before the entries of this chunk. */
+    final int previousCount;
+
+    // the types logged in this chunk, so that each entry only stores an id for its type
+    private final List<String> types = new ArrayList<>();
+    private long[] epochSeconds;
+    private int[] nanos;
+    private int[] typeIds;
+    // the end of the message of each entry in messageBytes, where the message of the entry before it ends
+    private int[] messageEnds;
+    private byte[] messageBytes;
+    private int count;
+
+    /**
+     * Creates an empty chunk that follows the first {@code previousCount} entries of {@code previous}.
+     */
+    LogChunk(LogChunk previous, int previousCount) {
+        this.previous = previous;
+        this.previousCount = previousCount;
+        epochSeconds = new long[MIN_CAPACITY];
+        nanos = new int[MIN_CAPACITY];
+        typeIds = new int[MIN_CAPACITY];
+        messageEnds = new int[MIN_CAPACITY];
+        messageBytes = new byte[MIN_CAPACITY * MESSAGE_BYTES_PER_ENTRY];
+    }
+
+    /**
+     * Returns the message of {@code entry} as it is stored.
+     */
+    static byte[] encodeMessage(LogEntry entry) {
+        return entry.getMessage().getBytes(UTF_8);
+    }
+
+    /**
+     * Appends {@code entry}, with its message already encoded as {@code message}, after the first {@code count}
+     * entries of this chunk. This is only possible if no other entry has been appended after them, and the chunk is
+     * not full. The columns are copied into larger arrays if the entry does not fit, which the entries already
+     * appended are copied along with, so the versions that read them are not affected.
+     *
+     * @return true if the entry was appended.
+     */
+    synchronized boolean tryAppend(int count, LogEntry entry, byte[] message) {
+        if (count != this.count || count == MAX_CAPACITY) {
+            return false;
+        }
+        if (count == epochSeconds.length) {
+            int capacity = Math.min(MAX_CAPACITY, count * 2);
+            epochSeconds = Arrays.copyOf(epochSeconds, capacity);
+            nanos = Arrays.copyOf(nanos, capacity);
+            typeIds = Arrays.copyOf(typeIds, capacity);
+            messageEnds = Arrays.copyOf(messageEnds, capacity);
+        }
+        int messageStart = count == 0 ? 0 : messageEnds[count - 1];
+        if (message.length > messageBytes.length - messageStart) {
+            int messageCapacity = Math.max(messageBytes.length * 2, messageStart + message.length);
+            messageBytes = Arrays.copyOf(messageBytes, messageCapacity);
+        }
+
+        epochSeconds[count] = entry.getTimestamp().toEpochSecond(ZoneOffset.UTC);
+        nanos[count] = entry.getTimestamp().getNano();
+        typeIds[count] = getTypeId(entry.getType());
+        System.arraycopy(message, 0, messageBytes, messageStart, message.length);
+        messageEnds[count] = messageStart + message.length;
+        this.count++;
+        return true;
+    }
+
+    /**
+     * Returns the entry at {@code index}, counting from the oldest entry of this chunk.
+     */
+    LogEntry get(int index) {
+        int messageStart = index == 0 ? 0 : messageEnds[index - 1];
+        String message = new String(messageBytes, messageStart, messageEnds[index] - messageStart, UTF_8);
+        LocalDateTime timestamp = LocalDateTime.ofEpochSecond(epochSeconds[index], nanos[index], ZoneOffset.UTC);
+        return new LogEntry(message, getType(index), timestamp);
+    }
+
+    /**
+     * Returns the timestamp of the entry at {@code index} as seconds from the epoch in UTC.
+     */
+    long getEpochSecond(int index) {
+        return epochSeconds[index];
+    }
+
+    /**
+     * Returns the nanoseconds of the timestamp of the entry at {@code index}.
+     */
+    int getNano(int index) {
+        return nanos[index];
+    }
+
+    /**
+     * Returns the type of the entry at {@code index}.
+     */
+    String getType(int index) {
+        return getTypeName(typeIds[index]);
+    }
+
+    /**
+     * Returns whether the entry at {@code index} of this chunk and the entry at {@code otherIndex} of
+     * {@code other} are equal, without creating either entry.
+     */
+    boolean isSameEntry(int index, LogChunk other, int otherIndex) {
+        if (epochSeconds[index] != other.epochSeconds[otherIndex] || nanos[index] != other.nanos[otherIndex]
+                || !getType(index).equals(other.getType(otherIndex))) {
+            return false;
+        }
+        int messageStart = index == 0 ? 0 : messageEnds[index - 1];
+        int otherMessageStart = otherIndex == 0 ? 0 : other.messageEnds[otherIndex - 1];
+        return Arrays.equals(messageBytes, messageStart, messageEnds[index],
+                other.messageBytes, otherMessageStart, other.messageEnds[otherIndex]);
+    }
+
+    /**
+     * Returns the id of {@code type} in this chunk, adding it to the types of this chunk if it is new.
+     * A chunk seldom has more than a few types, so they are searched in order.
+     */
+    private int getTypeId(String type) {
+        int typeId = types.indexOf(type);
+        if (typeId == -1) {
+            types.add(type);
+            typeId = types.size() - 1;
+        }
+        return typeId;
+    }
+
+    private synchronized String getTypeName(int typeId) {
+        return types.get(typeId);
+    }
+}
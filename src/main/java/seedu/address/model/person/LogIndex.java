@@ -0,0 +1,226 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * An index of the log entries of all persons ordered by their timestamps, kept in sync with a
+ * {@code UniquePersonList}, so that the interactions within a period are found without scanning every person.
+ *
+ * Each entry is recorded by its timestamp, the identity key of its person and its ordinal, which counts the entries
+ * of the person from the oldest, and so does not change as newer entries are logged. When entries are logged, only
+ * the new entries are added to the index. Each record also keeps the {@code LogChunk} the entry is stored in and its
+ * index there, which never change as chunks are only appended to, so an entry found is read without walking the log.
+ *
+ * The records are also kept ordered by timestamp for each type of entry, ignoring case, so that the interactions of
+ * one type within a period are found without going through the interactions of other types.
+ *
+ * @see Person#getIdentityKey()
+ */
+public class LogIndex {
+
+    private final NavigableSet<Key> keys = new TreeSet<>();
+    // the keys of the entries of each type, keyed on the type with its case folded
+    private final Map<String, NavigableSet<Key>> keysByType = new HashMap<>();
+    private final Map<String, Person> persons = new HashMap<>();
+
+    /**
+     * Returns the index of the log entries of {@code persons}.
+     */
+    public static LogIndex of(List<Person> persons) {
+        requireNonNull(persons);
+        LogIndex index = new LogIndex();
+        index.setPersons(persons);
+        return index;
+    }
+
+    /**
+     * Records the log entries of {@code person}.
+     */
+    void add(Person person) {
+        persons.put(person.getIdentityKey(), person);
+        addEntries(person, 0);
+    }
+
+    /**
+     * Removes the log entries of {@code person}.
+     */
+    void remove(Person person) {
+        persons.remove(person.getIdentityKey());
+        InteractionLog.Cursor cursor = person.getLogs().getCursor();
+        for (int ordinal = person.getLogs().size() - 1; ordinal >= 0; ordinal--) {
+            Key key = new Key(cursor.getChunk(), cursor.getIndex(), person.getIdentityKey(), ordinal);
+            keys.remove(key);
+            String type = getTypeKey(key);
+            NavigableSet<Key> typeKeys = keysByType.get(type);
+            typeKeys.remove(key);
+            if (typeKeys.isEmpty()) {
+                keysByType.remove(type);
+            }
+            cursor.moveToPrevious();
+        }
+    }
+
+    /**
+     * Replaces the log entries of {@code target} with those of {@code editedPerson}.
+     */
+    void setPerson(Person target, Person editedPerson) {
+        if (!target.getIdentityKey().equals(editedPerson.getIdentityKey())
+                || !editedPerson.getLogs().isExtensionOf(target.getLogs())) {
+            remove(target);
+            add(editedPerson);
+            return;
+        }
+        persons.put(editedPerson.getIdentityKey(), editedPerson);
+        addEntries(editedPerson, target.getLogs().size());
+    }
+
+    /**
+     * Replaces the contents of this index with the log entries of {@code persons}.
+     */
+    void setPersons(List<Person> persons) {
+        keys.clear();
+        keysByType.clear();
+        this.persons.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Records the log entries of {@code person} from the one with ordinal {@code fromOrdinal} to the newest.
+     */
+    private void addEntries(Person person, int fromOrdinal) {
+        InteractionLog.Cursor cursor = person.getLogs().getCursor();
+        for (int ordinal = person.getLogs().size() - 1; ordinal >= fromOrdinal; ordinal--) {
+            Key key = new Key(cursor.getChunk(), cursor.getIndex(), person.getIdentityKey(), ordinal);
+            keys.add(key);
+            keysByType.computeIfAbsent(getTypeKey(key), unused -> new TreeSet<>()).add(key);
+            cursor.moveToPrevious();
+        }
+    }
+
+    private static String getTypeKey(Key key) {
+        return NameIndex.foldCase(key.chunk.getType(key.index));
+    }
+
+    /**
+     * Returns the interactions logged from {@code from} inclusive to {@code to} exclusive, oldest first.
+     * Interactions logged at the same time are ordered by the identity keys of their persons.
+     * This takes O(log n + k) time for k interactions found among n log entries.
+     */
+    public List<Interaction> getInteractionsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return getInteractionsBetween(keys, from, to);
+    }
+
+    /**
+     * Returns the interactions of {@code type}, ignoring case, logged from {@code from} inclusive to {@code to}
+     * exclusive, ordered as by {@link #getInteractionsBetween(LocalDateTime, LocalDateTime)}.
+     * This takes O(log n + k) time for k interactions of the type found among n log entries.
+     */
+    public List<Interaction> getInteractionsBetween(LocalDateTime from, LocalDateTime to, String type) {
+        requireAllNonNull(from, to, type);
+        NavigableSet<Key> typeKeys = keysByType.get(NameIndex.foldCase(type));
+        if (typeKeys == null) {
+            return new ArrayList<>();
+        }
+        return getInteractionsBetween(typeKeys, from, to);
+    }
+
+    private List<Interaction> getInteractionsBetween(NavigableSet<Key> indexedKeys, LocalDateTime from,
+            LocalDateTime to) {
+        List<Interaction> interactions = new ArrayList<>();
+        if (!from.isBefore(to)) {
+            return interactions;
+        }
+        for (Key key : indexedKeys.subSet(Key.before(from), true, Key.before(to), false)) {
+            interactions.add(new Interaction(persons.get(key.identityKey), key.chunk.get(key.index)));
+        }
+        return interactions;
+    }
+
+    /**
+     * Returns the number of log entries in this index.
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * A log entry and the person it was logged for.
+     */
+    public static class Interaction {
+        private final Person person;
+        private final LogEntry entry;
+
+        Interaction(Person person, LogEntry entry) {
+            this.person = person;
+            this.entry = entry;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        public LogEntry getEntry() {
+            return entry;
+        }
+    }
+
+    /**
+     * The position of a log entry in the index, and where the entry is stored.
+     * Keys are ordered by their positions only.
+     */
+    private static class Key implements Comparable<Key> {
+        private static final Comparator<Key> ORDER = Comparator.<Key>comparingLong(key -> key.epochSecond)
+                .thenComparingInt(key -> key.nano)
+                .thenComparing(key -> key.identityKey)
+                .thenComparingInt(key -> key.ordinal);
+
+        private final long epochSecond;
+        private final int nano;
+        private final String identityKey;
+        private final int ordinal;
+        private final LogChunk chunk;
+        private final int index;
+
+        /**
+         * Creates the key of the entry at {@code index} of {@code chunk}.
+         */
+        Key(LogChunk chunk, int index, String identityKey, int ordinal) {
+            this(chunk.getEpochSecond(index), chunk.getNano(index), identityKey, ordinal, chunk, index);
+        }
+
+        private Key(long epochSecond, int nano, String identityKey, int ordinal, LogChunk chunk, int index) {
+            this.epochSecond = epochSecond;
+            this.nano = nano;
+            this.identityKey = identityKey;
+            this.ordinal = ordinal;
+            this.chunk = chunk;
+            this.index = index;
+        }
+
+        /**
+         * Returns a key that comes before the keys of all entries logged at {@code timestamp} or later.
+         */
+        static Key before(LocalDateTime timestamp) {
+            return new Key(timestamp.toEpochSecond(ZoneOffset.UTC), timestamp.getNano(), "", -1, null, -1);
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -3,29 +3,76 @@ package seedu.address.model.person;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+import seedu.address.commons.util.EditDistanceMatcher;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements RefiningPredicate {
+    /** Maximum edit distance between a keyword and a word of a name that still counts as a match. */
+    static final int FUZZY_THRESHOLD = 2; // adjust for fuzziness
+    /** Keywords shorter than this only match words of a name that contain them. */
+    static final int MIN_FUZZY_KEYWORD_LENGTH = 3;
+
     private final List<String> keywords;
+    // prepared on first use, so that the case of each keyword is only folded once
+    private List<Keyword> preparedKeywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
-        int threshold = 2; // adjust for fuzziness
-        String[] nameWords = person.getName().fullName.split("\\s+");
-        return keywords.stream()
-                .anyMatch(keyword ->
-                        Arrays.stream(nameWords).anyMatch(word ->
-                                matchesKeyword(word, keyword, threshold)
-                        ));
+        if (preparedKeywords == null) {
+            preparedKeywords = keywords.stream().map(Keyword::new).collect(Collectors.toList());
+        }
+        String[] nameWords = getNameWords(person.getName());
+        String[] lowerCaseNameWords = Arrays.stream(nameWords).map(String::toLowerCase).toArray(String[]::new);
+        for (Keyword keyword : preparedKeywords) {
+            for (int i = 0; i < nameWords.length; i++) {
+                if (keyword.matches(nameWords[i], lowerCaseNameWords[i])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code other} also tests names, and each keyword of this predicate only matches words that
+     * one of its keywords matches.
+     */
+    @Override
+    public boolean refines(Predicate<? super Person> other) {
+        if (!(other instanceof NameContainsKeywordsPredicate)) {
+            return false;
+        }
+        return isRefinementOf(keywords, ((NameContainsKeywordsPredicate) other).keywords);
+    }
+
+    /**
+     * Returns true if each of {@code keywords} only matches words that one of {@code otherKeywords} matches.
+     */
+    static boolean isRefinementOf(List<String> keywords, List<String> otherKeywords) {
+        List<Keyword> others = otherKeywords.stream().map(Keyword::new).collect(Collectors.toList());
+        return keywords.stream().map(Keyword::new)
+                .allMatch(keyword -> others.stream().anyMatch(keyword::refines));
+    }
+
+    /**
+     * Returns the words of {@code name} that keywords are matched against.
+     */
+    static String[] getNameWords(Name name) {
+        return name.fullName.split("\\s+");
     }
 
     @Override
@@ -48,21 +95,67 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
     }
 
-    private boolean matchesKeyword(String word, String keyword, int threshold) {
-        String trimmed = keyword.trim();
-        if (trimmed.isEmpty()) {
-            return false;
+    /**
+     * A keyword prepared for matching against many words of names.
+     */
+    static class Keyword {
+        private final String trimmed;
+        private final String lowerCase;
+        private final EditDistanceMatcher lowerCaseMatcher;
+
+        Keyword(String keyword) {
+            trimmed = keyword.trim();
+            lowerCase = trimmed.toLowerCase();
+            lowerCaseMatcher = new EditDistanceMatcher(lowerCase);
+        }
+
+        boolean isEmpty() {
+            return trimmed.isEmpty();
+        }
+
+        /**
+         * Returns true if every word matching this keyword also matches {@code other}. This is only recognised when
+         * the keywords are the same, or when neither is long enough for fuzzy matching and this keyword contains
+         * the other, as in typing {@code jo} after {@code j}.
+         */
+        boolean refines(Keyword other) {
+            if (trimmed.isEmpty()) {
+                return true;
+            }
+            if (other.trimmed.isEmpty()) {
+                return false;
+            }
+            if (RefiningPredicate.isSameKeyword(trimmed, other.trimmed)) {
+                return true;
+            }
+            // outside ASCII, a word equal to this keyword ignoring case may differ from it in lower case
+            return trimmed.length() < MIN_FUZZY_KEYWORD_LENGTH && other.trimmed.length() < MIN_FUZZY_KEYWORD_LENGTH
+                    && isAscii(trimmed) && isAscii(other.trimmed) && lowerCase.contains(other.lowerCase);
         }
 
-        // For short keywords (length < 3) do NOT perform substring matching to avoid noisy matches.
-        if (trimmed.length() < 3) {
-            return StringUtil.containsWordIgnoreCase(word, trimmed)
-                    || StringUtil.containsSubstringIgnoreCase(word, trimmed);
+        private static boolean isAscii(String s) {
+            return s.chars().allMatch(c -> c < 0x80);
         }
 
-        // For longer keywords allow substring matching in addition to full-word and fuzzy matches.
-        return StringUtil.containsWordIgnoreCase(word, trimmed)
-                || StringUtil.containsSubstringIgnoreCase(word, trimmed)
-                || StringUtil.fuzzyMatch(word, trimmed, threshold);
+        /**
+         * Returns true if the word {@code word} of a name, whose lower case form is {@code lowerCaseWord}, matches
+         * this keyword.
+         */
+        boolean matches(String word, String lowerCaseWord) {
+            if (trimmed.isEmpty()) {
+                return false;
+            }
+
+            // For short keywords (length < 3) do NOT perform substring matching to avoid noisy matches.
+            if (trimmed.length() < MIN_FUZZY_KEYWORD_LENGTH) {
+                return word.equalsIgnoreCase(trimmed)
+                        || lowerCaseWord.contains(lowerCase);
+            }
+
+            // For longer keywords allow substring matching in addition to full-word and fuzzy matches.
+            return word.equalsIgnoreCase(trimmed)
+                    || lowerCaseWord.contains(lowerCase)
+                    || StringUtil.fuzzyMatch(lowerCaseWord, lowerCaseMatcher, FUZZY_THRESHOLD);
+        }
     }
 }
@@ -0,0 +1,260 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An index of the words in the names of the persons of a {@code UniquePersonList}, kept in sync with the list.
+ * Persons are recorded by their identity key, which is unique within the list.
+ *
+ * Besides the persons with each distinct word, the index keeps the words containing each trigram of their lower
+ * case form, so that the words containing a keyword of three or more characters are found by intersecting the
+ * words of its trigrams instead of scanning every name. The lower case forms are also kept in a {@code BkTree}, so
+ * that the words within the edit distance of a fuzzy match are found without comparing the keyword against every
+ * word. Candidate words are then checked with the exact rules of
+ * {@link NameContainsKeywordsPredicate}, so that the index finds the same persons as the predicate does.
+ *
+ * The index is changed on the application thread, but may be searched from other threads, e.g. by a live search, so
+ * its methods are synchronized.
+ *
+ * @see Person#getIdentityKey()
+ */
+public class NameIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Word> words = new HashMap<>();
+    private final Map<String, Set<Word>> wordsByFoldedCase = new HashMap<>();
+    private final Map<String, Set<Word>> wordsByTrigram = new HashMap<>();
+    private final BkTree<Word> wordsByEditDistance = new BkTree<>();
+    private long modificationCount;
+
+    /**
+     * Returns the index of the words in the names of {@code persons}.
+     */
+    public static NameIndex of(List<Person> persons) {
+        requireNonNull(persons);
+        NameIndex index = new NameIndex();
+        index.setPersons(persons);
+        return index;
+    }
+
+    /**
+     * Records the words of the name of {@code person}.
+     */
+    synchronized void add(Person person) {
+        for (String nameWord : NameContainsKeywordsPredicate.getNameWords(person.getName())) {
+            Word word = words.get(nameWord);
+            if (word == null) {
+                word = new Word(nameWord);
+                words.put(nameWord, word);
+                wordsByFoldedCase.computeIfAbsent(word.foldedCase, unused -> new HashSet<>()).add(word);
+                for (String trigram : getTrigrams(word.lowerCase)) {
+                    wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+                }
+                wordsByEditDistance.add(word.lowerCase, word);
+            }
+            word.identityKeys.add(person.getIdentityKey());
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the words of the name of {@code person}.
+     */
+    synchronized void remove(Person person) {
+        for (String nameWord : NameContainsKeywordsPredicate.getNameWords(person.getName())) {
+            Word word = words.get(nameWord);
+            if (word == null) {
+                continue;
+            }
+            word.identityKeys.remove(person.getIdentityKey());
+            if (word.identityKeys.isEmpty()) {
+                words.remove(nameWord);
+                removeFrom(wordsByFoldedCase, word.foldedCase, word);
+                for (String trigram : getTrigrams(word.lowerCase)) {
+                    removeFrom(wordsByTrigram, trigram, word);
+                }
+                wordsByEditDistance.remove(word.lowerCase, word);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of this index with the words of the names of {@code persons}.
+     */
+    synchronized void setPersons(List<Person> persons) {
+        words.clear();
+        wordsByFoldedCase.clear();
+        wordsByTrigram.clear();
+        wordsByEditDistance.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns the identity keys of the persons with a name matching any of {@code keywords}, as defined by
+     * {@link NameContainsKeywordsPredicate}.
+     */
+    public synchronized Set<String> getIdentityKeysMatchingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> identityKeys = new HashSet<>();
+        for (String keyword : keywords) {
+            NameContainsKeywordsPredicate.Keyword preparedKeyword = new NameContainsKeywordsPredicate.Keyword(keyword);
+            if (preparedKeyword.isEmpty()) {
+                continue;
+            }
+            for (Word word : getCandidateWords(keyword.trim())) {
+                if (preparedKeyword.matches(word.word, word.lowerCase)) {
+                    identityKeys.addAll(word.identityKeys);
+                }
+            }
+        }
+        return identityKeys;
+    }
+
+    /**
+     * Returns a predicate that tests if a person of the indexed list has a name matching any of {@code keywords}.
+     * Each test is a hash lookup, and the predicate follows later changes to the indexed list. It refines another
+     * such predicate as {@link NameContainsKeywordsPredicate#refines(Predicate)} does.
+     */
+    public RefiningPredicate createNamePredicate(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return new NamePredicate(List.copyOf(keywords));
+    }
+
+    /**
+     * Returns the words that may match {@code keyword}, which must be trimmed and non-empty.
+     * All words that match are returned, but not all words returned need to match.
+     */
+    private Collection<Word> getCandidateWords(String keyword) {
+        String lowerCase = keyword.toLowerCase();
+        if (lowerCase.length() < GRAM_LENGTH) {
+            // too short to have a trigram, so any word may contain it
+            return words.values();
+        }
+
+        Set<Word> candidates = new HashSet<>(wordsByFoldedCase.getOrDefault(foldCase(keyword), Set.of()));
+        candidates.addAll(getWordsContaining(lowerCase));
+        if (keyword.length() >= NameContainsKeywordsPredicate.MIN_FUZZY_KEYWORD_LENGTH) {
+            candidates.addAll(wordsByEditDistance.search(lowerCase, NameContainsKeywordsPredicate.FUZZY_THRESHOLD));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the words that may contain {@code lowerCase}, which has at least {@link #GRAM_LENGTH} characters,
+     * as the intersection of the words with each of its trigrams.
+     */
+    private Set<Word> getWordsContaining(String lowerCase) {
+        Set<Word> smallest = null;
+        List<String> trigrams = getTrigrams(lowerCase);
+        for (String trigram : trigrams) {
+            Set<Word> trigramWords = wordsByTrigram.get(trigram);
+            if (trigramWords == null) {
+                return Set.of();
+            }
+            if (smallest == null || trigramWords.size() < smallest.size()) {
+                smallest = trigramWords;
+            }
+        }
+
+        Set<Word> result = new HashSet<>();
+        for (Word word : smallest) {
+            if (trigrams.stream().allMatch(trigram -> wordsByTrigram.get(trigram).contains(word))) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+
+    private static List<String> getTrigrams(String lowerCase) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCase.length(); i++) {
+            trigrams.add(lowerCase.substring(i, i + GRAM_LENGTH));
+        }
+        return List.copyOf(trigrams);
+    }
+
+    /**
+     * Returns {@code s} with the same per-character case folding as {@link String#equalsIgnoreCase(String)}, so that
+     * two strings are equal ignoring case if and only if their folded forms are equal.
+     */
+    static String foldCase(String s) {
+        StringBuilder folded = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            folded.append(Character.toLowerCase(Character.toUpperCase(s.charAt(i))));
+        }
+        return folded.toString();
+    }
+
+    private static void removeFrom(Map<String, Set<Word>> map, String key, Word word) {
+        Set<Word> set = map.get(key);
+        set.remove(word);
+        if (set.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    /**
+     * A distinct word of the indexed names, with the persons whose names contain it.
+     */
+    private static class Word {
+        private final String word;
+        private final String lowerCase;
+        private final String foldedCase;
+        private final Set<String> identityKeys = new HashSet<>();
+
+        Word(String word) {
+            this.word = word;
+            lowerCase = word.toLowerCase();
+            foldedCase = foldCase(word);
+        }
+    }
+
+    /**
+     * Tests persons against the persons matching some keywords, which are looked up again only after the index has
+     * changed.
+     */
+    private class NamePredicate implements RefiningPredicate {
+        private final List<String> keywords;
+        private Set<String> matchingIdentityKeys;
+        private long matchedModificationCount;
+
+        NamePredicate(List<String> keywords) {
+            this.keywords = keywords;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (matchingIdentityKeys == null || matchedModificationCount != modificationCount) {
+                matchingIdentityKeys = getIdentityKeysMatchingAny(keywords);
+                matchedModificationCount = modificationCount;
+            }
+            return matchingIdentityKeys.contains(person.getIdentityKey());
+        }
+
+        @Override
+        public boolean refines(Predicate<? super Person> other) {
+            return other instanceof NamePredicate
+                    && NameContainsKeywordsPredicate.isRefinementOf(keywords, ((NamePredicate) other).keywords);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("keywords", keywords).toString();
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * An immutable sequence of persons that supports positional reads and updates in O(log n) time.
+ * Every update returns a new list that shares all untouched structure with the original, so holding on to many
+ * versions of a large list only costs memory proportional to the changes made between them.
+ *
+ * Each person in the list also has a position label. Labels increase along the list, and a person keeps its label
+ * as other persons are added and removed, or when it is replaced, so the position of a person can be found from its
+ * label in O(log n) time. Labels are spaced apart, and only when a person is added between two persons whose labels
+ * are adjacent are all the labels assigned again.
+ */
+public final class PersistentPersonList {
+
+    // the space between the labels of adjacent persons when labels are assigned
+    private static final long LABEL_GAP = 1L << 20;
+
+    private static final PersistentPersonList EMPTY = new PersistentPersonList(null, new Object());
+
+    private final Node root;
+    // shared by every list derived from this one without assigning the labels again
+    private final Object labelling;
+
+    private PersistentPersonList(Node root, Object labelling) {
+        this.root = root;
+        this.labelling = labelling;
+    }
+
+    /**
+     * Returns a list with no persons.
+     */
+    public static PersistentPersonList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a list containing {@code persons} in the same order.
+     */
+    public static PersistentPersonList of(List<Person> persons) {
+        requireNonNull(persons);
+        return persons.isEmpty() ? EMPTY : new PersistentPersonList(build(persons, 0, persons.size()), new Object());
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the person at {@code index}.
+     */
+    public Person get(int index) {
+        checkIndex(index, size());
+        return getNode(index).person;
+    }
+
+    /**
+     * Returns the label of the person at {@code index}.
+     */
+    public long getLabel(int index) {
+        checkIndex(index, size());
+        return getNode(index).label;
+    }
+
+    /**
+     * Returns the index of the person labelled {@code label}, or -1 if there is none.
+     */
+    public int indexOf(long label) {
+        Node node = root;
+        int index = 0;
+        while (node != null) {
+            if (label < node.label) {
+                node = node.left;
+            } else if (label > node.label) {
+                index += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether the persons of {@code other} that are also in this list have the same labels in both lists.
+     * This holds if either list was derived from the other without assigning the labels again.
+     */
+    public boolean hasSameLabelsAs(PersistentPersonList other) {
+        requireNonNull(other);
+        return labelling == other.labelling;
+    }
+
+    /**
+     * Performs {@code action} on each person of this list, in order, with the label of the person.
+     */
+    public void forEachWithLabel(ObjLongConsumer<Person> action) {
+        requireNonNull(action);
+        forEachWithLabel(root, action);
+    }
+
+    /**
+     * Returns a list with {@code person} appended to the end of this list.
+     */
+    public PersistentPersonList add(Person person) {
+        return add(size(), person);
+    }
+
+    /**
+     * Returns a list with {@code person} inserted at {@code index}.
+     */
+    public PersistentPersonList add(int index, Person person) {
+        requireNonNull(person);
+        checkIndex(index, size() + 1);
+        Long label = getLabelBetween(index == 0 ? null : getNode(index - 1).label,
+                index == size() ? null : getNode(index).label);
+        if (label == null) {
+            List<Person> persons = new ArrayList<>(toList());
+            persons.add(index, person);
+            return of(persons);
+        }
+        return new PersistentPersonList(insert(root, index, person, label), labelling);
+    }
+
+    /**
+     * Returns a list with the person at {@code index} replaced by {@code person}.
+     */
+    public PersistentPersonList set(int index, Person person) {
+        requireNonNull(person);
+        checkIndex(index, size());
+        return new PersistentPersonList(replace(root, index, person), labelling);
+    }
+
+    /**
+     * Returns a list with the person at {@code index} removed.
+     */
+    public PersistentPersonList remove(int index) {
+        checkIndex(index, size());
+        Node newRoot = delete(root, index);
+        return newRoot == null ? EMPTY : new PersistentPersonList(newRoot, labelling);
+    }
+
+    /**
+     * Returns the persons in this list, in order, as an unmodifiable {@code List}.
+     */
+    public List<Person> toList() {
+        List<Person> persons = new ArrayList<>(size());
+        collect(root, persons);
+        return Collections.unmodifiableList(persons);
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    //// tree operations
+
+    /**
+     * A node of a size-augmented AVL tree. Nodes are never modified after construction.
+     */
+    private static final class Node {
+        private final Node left;
+        private final Person person;
+        private final long label;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        Node(Node left, Person person, long label, Node right) {
+            this.left = left;
+            this.person = person;
+            this.label = label;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private Node getNode(int index) {
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node;
+            }
+        }
+    }
+
+    /**
+     * Returns a label between {@code before} and {@code after}, either of which is null at an end of the list, or
+     * null if there is no label between them.
+     */
+    private static Long getLabelBetween(Long before, Long after) {
+        if (before == null && after == null) {
+            return 0L;
+        } else if (before == null) {
+            return after < Long.MIN_VALUE + LABEL_GAP ? null : after - LABEL_GAP;
+        } else if (after == null) {
+            return before > Long.MAX_VALUE - LABEL_GAP ? null : before + LABEL_GAP;
+        }
+        return after - before < 2 ? null : before + (after - before) / 2;
+    }
+
+    private static Node build(List<Person> persons, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node(build(persons, from, mid), requireNonNull(persons.get(mid)), mid * LABEL_GAP,
+                build(persons, mid + 1, to));
+    }
+
+    private static void collect(Node node, List<Person> persons) {
+        while (node != null) {
+            collect(node.left, persons);
+            persons.add(node.person);
+            node = node.right;
+        }
+    }
+
+    private static void forEachWithLabel(Node node, ObjLongConsumer<Person> action) {
+        while (node != null) {
+            forEachWithLabel(node.left, action);
+            action.accept(node.person, node.label);
+            node = node.right;
+        }
+    }
+
+    private static Node insert(Node node, int index, Person person, long label) {
+        if (node == null) {
+            return new Node(null, person, label, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, person, label), node.person, node.label, node.right);
+        }
+        return balance(node.left, node.person, node.label, insert(node.right, index - leftSize - 1, person, label));
+    }
+
+    private static Node replace(Node node, int index, Person person) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node(replace(node.left, index, person), node.person, node.label, node.right);
+        } else if (index > leftSize) {
+            return new Node(node.left, node.person, node.label, replace(node.right, index - leftSize - 1, person));
+        }
+        return new Node(node.left, person, node.label, node.right);
+    }
+
+    private static Node delete(Node node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(delete(node.left, index), node.person, node.label, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.person, node.label, delete(node.right, index - leftSize - 1));
+        }
+
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(node.left, successor.person, successor.label, delete(node.right, 0));
+    }
+
+    /**
+     * Returns a node holding {@code person} and its {@code label} between {@code left} and {@code right}, rotating as
+     * needed so that the heights of its subtrees differ by at most one. Both subtrees must already be balanced and
+     * their heights must differ by at most two.
+     */
+    private static Node balance(Node left, Person person, long label, Node right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node(left.left, left.person, left.label, new Node(left.right, person, label, right));
+            }
+            Node pivot = left.right;
+            return new Node(new Node(left.left, left.person, left.label, pivot.left), pivot.person, pivot.label,
+                    new Node(pivot.right, person, label, right));
+        } else if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node(new Node(left, person, label, right.left), right.person, right.label, right.right);
+            }
+            Node pivot = right.left;
+            return new Node(new Node(left, person, label, pivot.left), pivot.person, pivot.label,
+                    new Node(pivot.right, right.person, right.label, right.right));
+        }
+        return new Node(left, person, label, right);
+    }
+}
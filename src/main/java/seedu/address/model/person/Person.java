@@ -2,9 +2,11 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.text.CollationKey;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -17,6 +19,9 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    // the number of sort orders a person keeps its packed key in
+    private static final int MAX_PACKED_SORT_KEYS = 4;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -30,21 +35,19 @@ public class Person {
     private final InteractionLog logs;
     private final boolean isPinned;
 
+    private final String identityKey;
+    // computed on first use, as persons are immutable. Persons are read by both the application thread and the
+    // thread commands are prepared on, so the keys are only published as immutable values through volatile fields.
+    private volatile CollationKey[] sortKeys;
+    // the packed keys of the orders last sorted in, most recent first
+    private volatile SortOrder.Key[] packedSortKeys;
+
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, TelegramHandle telegramHandle, Email email,
                   Address address, Set<Tag> tags, Note note, InteractionLog logs) {
-        requireAllNonNull(name, phone, telegramHandle, email, address, tags, note, logs);
-        this.name = name;
-        this.phone = phone;
-        this.telegramHandle = telegramHandle;
-        this.email = email;
-        this.address = address;
-        this.tags.addAll(tags);
-        this.note = note;
-        this.logs = logs;
-        this.isPinned = false;
+        this(name, phone, telegramHandle, email, address, tags, note, logs, false);
     }
 
     /**
@@ -62,6 +65,7 @@ public class Person {
         this.note = note;
         this.logs = logs;
         this.isPinned = isPinned;
+        this.identityKey = computeIdentityKey();
     }
 
     public Name getName() {
@@ -118,6 +122,79 @@ public class Person {
                 && otherPerson.getPhone().equals(getPhone());
     }
 
+    /**
+     * Returns a key that is equal for two persons if and only if {@link #isSamePerson(Person)} holds between them.
+     * This allows identity checks to be answered with a hash lookup instead of a pairwise comparison.
+     * The key is computed once, so that rebuilding an index of persons does not create new keys.
+     */
+    public String getIdentityKey() {
+        return identityKey;
+    }
+
+    private String computeIdentityKey() {
+        String fullName = name.toString();
+        StringBuilder key = new StringBuilder(fullName.length() + phone.value.length() + 1);
+        for (int i = 0; i < fullName.length(); i++) {
+            // same per-character case folding as String#equalsIgnoreCase
+            key.append(Character.toLowerCase(Character.toUpperCase(fullName.charAt(i))));
+        }
+        return key.append('\0').append(phone.value).toString();
+    }
+
+    /**
+     * Returns the key that orders persons by {@code field}, ignoring case.
+     * Each key is computed once, so that sorting compares precomputed keys instead of folding case on every
+     * comparison.
+     *
+     * @throws IllegalArgumentException if {@code field} is {@code INVALID}.
+     */
+    public CollationKey getSortKey(Field.FieldValue field) {
+        CollationKey[] keys = sortKeys;
+        CollationKey sortKey = keys == null ? null : keys[field.ordinal()];
+        if (sortKey == null) {
+            sortKey = SortKeys.compute(this, field);
+            // a published array is never written to again, and a key lost to a concurrent update is computed again
+            CollationKey[] updatedKeys = keys == null ? new CollationKey[Field.FieldValue.values().length]
+                    : keys.clone();
+            updatedKeys[field.ordinal()] = sortKey;
+            sortKeys = updatedKeys;
+        }
+        return sortKey;
+    }
+
+    /**
+     * Returns the key of this person in {@code sortOrder}. The keys of the last few orders asked for are kept, so
+     * that switching between the default order and the orders chosen by the user does not compute them again.
+     */
+    byte[] getPackedSortKey(SortOrder sortOrder) {
+        SortOrder.Key[] keys = packedSortKeys;
+        if (keys != null) {
+            for (SortOrder.Key key : keys) {
+                if (key.sortOrder == sortOrder) {
+                    return key.bytes;
+                }
+            }
+        }
+
+        // an equal order chosen again is another instance, which then takes the place of the earlier one
+        byte[] bytes = null;
+        List<SortOrder.Key> updatedKeys = new ArrayList<>(MAX_PACKED_SORT_KEYS);
+        updatedKeys.add(null);
+        for (int i = 0; keys != null && i < keys.length; i++) {
+            if (bytes == null && keys[i].sortOrder.equals(sortOrder)) {
+                bytes = keys[i].bytes;
+            } else if (updatedKeys.size() < MAX_PACKED_SORT_KEYS) {
+                updatedKeys.add(keys[i]);
+            }
+        }
+        if (bytes == null) {
+            bytes = sortOrder.computeKey(this);
+        }
+        updatedKeys.set(0, new SortOrder.Key(sortOrder, bytes));
+        packedSortKeys = updatedKeys.toArray(new SortOrder.Key[0]);
+        return bytes;
+    }
+
     /**
      * Retrieve all fields related to the person
      * Each element of the ArrayList will be of the form "[FIELD_NAME]:[FIELD VALUE]"
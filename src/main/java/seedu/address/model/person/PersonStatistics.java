@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Statistics of the persons of a {@code UniquePersonList}, kept in sync with the list. The counters are updated on
+ * every change to the list, so that reading the statistics does not scan the persons.
+ * Ties in the counts are broken in the natural order of the tag names, email domains and identity keys.
+ */
+public class PersonStatistics {
+
+    private final RankedCounter<String> tagCounts = new RankedCounter<>();
+    private final RankedCounter<String> emailDomainCounts = new RankedCounter<>();
+    // persons with at least one log, counted by the number of their logs
+    private final RankedCounter<String> logCounts = new RankedCounter<>();
+    private final Map<String, Person> loggedPersons = new HashMap<>();
+    private int personCount;
+
+    /**
+     * Returns the statistics of {@code persons}.
+     */
+    public static PersonStatistics of(List<Person> persons) {
+        requireNonNull(persons);
+        PersonStatistics statistics = new PersonStatistics();
+        statistics.setPersons(persons);
+        return statistics;
+    }
+
+    /**
+     * Counts {@code person}.
+     */
+    void add(Person person) {
+        count(person, 1);
+        if (!person.getLogs().isEmpty()) {
+            loggedPersons.put(person.getIdentityKey(), person);
+        }
+    }
+
+    /**
+     * Stops counting {@code person}.
+     */
+    void remove(Person person) {
+        count(person, -1);
+        loggedPersons.remove(person.getIdentityKey());
+    }
+
+    /**
+     * Replaces the contents of these statistics with the counts of {@code persons}.
+     */
+    void setPersons(List<Person> persons) {
+        tagCounts.clear();
+        emailDomainCounts.clear();
+        logCounts.clear();
+        loggedPersons.clear();
+        personCount = 0;
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    private void count(Person person, int sign) {
+        personCount += sign;
+        for (Tag tag : person.getTags()) {
+            tagCounts.add(tag.tagName, sign);
+        }
+        getEmailDomain(person).ifPresent(domain -> emailDomainCounts.add(domain, sign));
+        logCounts.add(person.getIdentityKey(), sign * person.getLogs().size());
+    }
+
+    private static Optional<String> getEmailDomain(Person person) {
+        String email = person.getEmail().value;
+        int atIndex = email.indexOf('@');
+        return atIndex == -1 ? Optional.empty() : Optional.of(email.substring(atIndex + 1));
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    /**
+     * Returns the names of up to {@code limit} tags carried by the most persons, in descending order of their counts.
+     */
+    public List<String> getTopTags(int limit) {
+        return tagCounts.getTop(limit);
+    }
+
+    /**
+     * Returns the number of persons carrying the tag named {@code tagName}.
+     */
+    public int getTagCount(String tagName) {
+        return tagCounts.getCount(tagName);
+    }
+
+    /**
+     * Returns the domain of the email addresses of the most persons, if any person has an email address with a domain.
+     */
+    public Optional<String> getMostCommonEmailDomain() {
+        return emailDomainCounts.getTop(1).stream().findFirst();
+    }
+
+    /**
+     * Returns the person with the most logs, if any person has a log.
+     */
+    public Optional<Person> getPersonWithMostLogs() {
+        return logCounts.getTop(1).stream().findFirst().map(loggedPersons::get);
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Orders persons with pinned persons first, then by their positions in a ranking, such as the results of a search.
+ * Persons are recorded by their identity keys, so that a ranked person stays in place when it is edited.
+ *
+ * Like a {@code SortOrder}, each person is compared by a single key, which packs its pinned flag above its rank in
+ * one number instead of chaining a comparator of the flag and one of the ranks.
+ *
+ * @see Person#getIdentityKey()
+ */
+public class RankOrder implements Comparator<Person> {
+
+    private final Map<String, Integer> ranks = new HashMap<>();
+
+    /**
+     * Constructs an order of {@code rankedPersons}, highest ranked first. A person ranked more than once keeps its
+     * highest rank.
+     */
+    public RankOrder(List<Person> rankedPersons) {
+        requireNonNull(rankedPersons);
+        for (Person person : rankedPersons) {
+            ranks.putIfAbsent(person.getIdentityKey(), ranks.size());
+        }
+    }
+
+    /**
+     * Returns true if {@code person} is ranked.
+     */
+    public boolean isRanked(Person person) {
+        return ranks.containsKey(person.getIdentityKey());
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        return Long.compare(getKey(first), getKey(second));
+    }
+
+    private long getKey(Person person) {
+        // persons that are not ranked come last
+        long rank = ranks.getOrDefault(person.getIdentityKey(), Integer.MAX_VALUE);
+        return person.isPinned() ? rank : rank | 1L << Integer.SIZE;
+    }
+}
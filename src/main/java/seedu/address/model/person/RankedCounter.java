@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Counts keys and keeps them ranked by their counts, so that the keys with the highest counts are read without
+ * scanning all the keys. Keys with equal counts are ranked in their natural order. Only keys with a positive count
+ * are kept.
+ */
+class RankedCounter<K extends Comparable<? super K>> {
+
+    private final Map<K, Integer> counts = new HashMap<>();
+    // ordered by the counts above, so a key is removed before its count changes and added back after
+    private final NavigableSet<K> ranking = new TreeSet<>(
+            Comparator.comparing((K key) -> counts.get(key)).reversed().thenComparing(Comparator.naturalOrder()));
+
+    /**
+     * Adds {@code amount} to the count of {@code key}, which may be negative.
+     */
+    void add(K key, int amount) {
+        if (amount == 0) {
+            return;
+        }
+        Integer count = counts.get(key);
+        if (count != null) {
+            ranking.remove(key);
+        }
+        int newCount = (count == null ? 0 : count) + amount;
+        if (newCount > 0) {
+            counts.put(key, newCount);
+            ranking.add(key);
+        } else {
+            counts.remove(key);
+        }
+    }
+
+    void clear() {
+        counts.clear();
+        ranking.clear();
+    }
+
+    /**
+     * Returns the count of {@code key}, or 0 if it is not counted.
+     */
+    int getCount(K key) {
+        return counts.getOrDefault(key, 0);
+    }
+
+    /**
+     * Returns up to {@code limit} keys with the highest counts, in descending order of their counts.
+     */
+    List<K> getTop(int limit) {
+        List<K> top = new ArrayList<>(Math.min(limit, ranking.size()));
+        Iterator<K> iterator = ranking.iterator();
+        while (top.size() < limit && iterator.hasNext()) {
+            top.add(iterator.next());
+        }
+        return top;
+    }
+}
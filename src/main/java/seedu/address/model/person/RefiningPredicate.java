@@ -0,0 +1,24 @@
+package seedu.address.model.person;
+
+import java.util.function.Predicate;
+
+/**
+ * A predicate on persons that can tell when it only accepts persons that another predicate also accepts.
+ * A filter replaced by a predicate that refines it only needs to test the persons the filter currently shows.
+ */
+public interface RefiningPredicate extends Predicate<Person> {
+
+    /**
+     * Returns true if every person accepted by this predicate is also accepted by {@code other}.
+     * Returning false is always correct, so implementations only need to recognise the cases they can prove.
+     */
+    boolean refines(Predicate<? super Person> other);
+
+    /**
+     * Returns true if {@code a} and {@code b} are equal both ignoring case and in lower case, so that any test that
+     * compares them to other strings in either way gives the same result for both.
+     */
+    static boolean isSameKeyword(String a, String b) {
+        return a.equalsIgnoreCase(b) && a.toLowerCase().equals(b.toLowerCase());
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.person;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Locale;
+
+/**
+ * Computes the keys that persons are sorted by. Values are compared with a collator, which orders names in any
+ * script by the Unicode collation rules and ignores case but not accents. The key of a value is computed once, and
+ * comparing two keys is a comparison of their bytes.
+ */
+class SortKeys {
+
+    private static final Collator COLLATOR = createCollator();
+
+    private SortKeys() {}
+
+    private static Collator createCollator() {
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.SECONDARY);
+        collator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
+        return collator;
+    }
+
+    /**
+     * Returns the key that orders persons by the value of {@code field} of {@code person}.
+     *
+     * @throws IllegalArgumentException if {@code field} is {@code INVALID}.
+     */
+    static CollationKey compute(Person person, Field.FieldValue field) {
+        String value = getValue(person, field);
+        // collators are not safe for use by several threads at once
+        synchronized (COLLATOR) {
+            return COLLATOR.getCollationKey(value);
+        }
+    }
+
+    private static String getValue(Person person, Field.FieldValue field) {
+        switch (field) {
+        case NAME:
+            return person.getName().fullName;
+        case PHONE:
+            return person.getPhone().value;
+        case EMAIL:
+            return person.getEmail().value;
+        case TELEGRAM:
+            return person.getTelegramHandle().value;
+        case ADDRESS:
+            return person.getAddress().value;
+        default:
+            throw new IllegalArgumentException("Persons cannot be sorted by " + field);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.text.CollationKey;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Orders persons with pinned persons first, then by a sequence of fields, each in ascending or descending order.
+ * Guarantees: immutable; fields and orders are valid and of the same number.
+ *
+ * Each person is given a single key for the whole order, which is computed once and kept by the person. The key
+ * packs the pinned flag and the collation key or numeric value of each field into one byte array, so that comparing
+ * two persons is a single comparison of their keys instead of a chain of comparators. The numeric values are kept up
+ * to date by the interaction log of each person, so computing a key never reads the log entries themselves.
+ */
+public class SortOrder implements Comparator<Person> {
+
+    /** Pinned persons first, then by name in ascending order. */
+    public static final SortOrder DEFAULT = new SortOrder(List.of(new Field("name")), List.of(new Order("asc")));
+
+    /** Pinned persons first, otherwise in the order of the address book. */
+    public static final SortOrder PINNED_FIRST = new SortOrder(List.of(), List.of());
+
+    private final List<Field> fields;
+    private final List<Order> orders;
+
+    /**
+     * Constructs an order that sorts by each of {@code fields} in the order at the same position in {@code orders}.
+     */
+    public SortOrder(List<Field> fields, List<Order> orders) {
+        requireAllNonNull(fields, orders);
+        if (fields.size() != orders.size()) {
+            throw new IllegalArgumentException("Each field must have an order");
+        }
+        if (fields.stream().anyMatch(Field::isInvalid) || orders.stream().anyMatch(Order::isInvalid)) {
+            throw new IllegalArgumentException("Fields and orders must be valid");
+        }
+        this.fields = List.copyOf(fields);
+        this.orders = List.copyOf(orders);
+    }
+
+    public List<Field> getFields() {
+        return fields;
+    }
+
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        return Arrays.compareUnsigned(first.getPackedSortKey(this), second.getPackedSortKey(this));
+    }
+
+    /**
+     * Computes the keys of {@code persons} in this order ahead of sorting them, so that this can be done on a
+     * background thread. Persons keep their keys, which are immutable once computed.
+     */
+    public void computeKeys(List<Person> persons) {
+        for (Person person : persons) {
+            person.getPackedSortKey(this);
+        }
+    }
+
+    /**
+     * Returns the key of {@code person} in this order.
+     * A text field is written as its collation key with every zero byte followed by 0xFF, and ends with two zero bytes.
+     * A numeric field is written as its value in a fixed number of bytes, most significant first, which are ordered
+     * as unsigned bytes. No written field is then a prefix of another, so the bytes of a field in descending order can
+     * be inverted.
+     */
+    byte[] computeKey(Person person) {
+        ByteArrayOutputStream key = new ByteArrayOutputStream();
+        key.write(person.isPinned() ? 0 : 1);
+        for (int i = 0; i < fields.size(); i++) {
+            int mask = orders.get(i).value == Order.OrderValue.DESC ? 0xFF : 0;
+            switch (fields.get(i).value) {
+            case LAST_CONTACTED:
+                // persons never contacted come before all others, as if they were last contacted at the earliest time
+                LocalDateTime lastContacted = person.getLogs().getLatestTimestamp().orElse(null);
+                // flipping the sign bit orders signed seconds as unsigned numbers
+                long seconds = lastContacted == null ? 0 : lastContacted.toEpochSecond(ZoneOffset.UTC) ^ Long.MIN_VALUE;
+                writeNumber(key, seconds, Long.BYTES, mask);
+                writeNumber(key, lastContacted == null ? 0 : lastContacted.getNano(), Integer.BYTES, mask);
+                break;
+            case INTERACTIONS:
+                writeNumber(key, person.getLogs().size(), Integer.BYTES, mask);
+                break;
+            default:
+                writeText(key, person.getSortKey(fields.get(i).value), mask);
+            }
+        }
+        return key.toByteArray();
+    }
+
+    private static void writeText(ByteArrayOutputStream key, CollationKey collationKey, int mask) {
+        for (byte b : collationKey.toByteArray()) {
+            key.write(b ^ mask);
+            if (b == 0) {
+                key.write(0xFF ^ mask);
+            }
+        }
+        key.write(mask);
+        key.write(mask);
+    }
+
+    /**
+     * Writes the lowest {@code byteCount} bytes of {@code value}, which is ordered as an unsigned number.
+     */
+    private static void writeNumber(ByteArrayOutputStream key, long value, int byteCount, int mask) {
+        for (int shift = (byteCount - 1) * Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            key.write((int) (value >>> shift) ^ mask);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortOrder)) {
+            return false;
+        }
+
+        SortOrder otherSortOrder = (SortOrder) other;
+        return fields.equals(otherSortOrder.fields) && orders.equals(otherSortOrder.orders);
+    }
+
+    @Override
+    public int hashCode() {
+        return fields.hashCode() * 31 + orders.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("fields", fields).add("orders", orders).toString();
+    }
+
+    /**
+     * The key of a person in a sort order, kept by the person while the order is among the last few it was sorted in.
+     */
+    static class Key {
+        final SortOrder sortOrder;
+        final byte[] bytes;
+
+        Key(SortOrder sortOrder, byte[] bytes) {
+            this.sortOrder = sortOrder;
+            this.bytes = bytes;
+        }
+    }
+}
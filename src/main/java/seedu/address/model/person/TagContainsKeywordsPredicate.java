@@ -8,13 +8,17 @@ import seedu.address.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code Tag} matches any of the keywords given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Person> {
+public class TagContainsKeywordsPredicate implements RefiningPredicate {
     private final List<String> keywords;
 
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
         return keywords.stream()
@@ -22,6 +26,26 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
                         .anyMatch(tag -> tag.tagName.equalsIgnoreCase(keyword)));
     }
 
+    /**
+     * Returns true if {@code other} also tests for any of the tags, and each keyword of this predicate is also one of
+     * its keywords.
+     */
+    @Override
+    public boolean refines(Predicate<? super Person> other) {
+        if (!(other instanceof TagContainsKeywordsPredicate)) {
+            return false;
+        }
+        return isSubsetOf(keywords, ((TagContainsKeywordsPredicate) other).keywords);
+    }
+
+    /**
+     * Returns true if each of {@code keywords} is the same as one of {@code otherKeywords}, ignoring case.
+     */
+    static boolean isSubsetOf(List<String> keywords, List<String> otherKeywords) {
+        return keywords.stream().allMatch(keyword -> otherKeywords.stream()
+                .anyMatch(otherKeyword -> RefiningPredicate.isSameKeyword(keyword, otherKeyword)));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,137 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from each tag to the persons carrying it, kept in sync with a {@code UniquePersonList}.
+ * Persons are recorded by their identity key, which is unique within the list.
+ *
+ * The index is changed on the application thread, but may be searched from other threads, e.g. by a live search, so
+ * its methods are synchronized.
+ *
+ * @see Person#getIdentityKey()
+ */
+public class TagIndex {
+
+    private final Map<String, Set<String>> postings = new HashMap<>();
+    private long modificationCount;
+
+    /**
+     * Returns the index of the tags of {@code persons}.
+     */
+    public static TagIndex of(List<Person> persons) {
+        requireNonNull(persons);
+        TagIndex index = new TagIndex();
+        index.setPersons(persons);
+        return index;
+    }
+
+    /**
+     * Records the tags of {@code person}.
+     */
+    synchronized void add(Person person) {
+        for (Tag tag : person.getTags()) {
+            postings.computeIfAbsent(tag.tagName, unused -> new HashSet<>()).add(person.getIdentityKey());
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the tags of {@code person}.
+     */
+    synchronized void remove(Person person) {
+        for (Tag tag : person.getTags()) {
+            Set<String> posting = postings.get(tag.tagName);
+            if (posting != null) {
+                posting.remove(person.getIdentityKey());
+                if (posting.isEmpty()) {
+                    postings.remove(tag.tagName);
+                }
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of this index with the tags of {@code persons}.
+     */
+    synchronized void setPersons(List<Person> persons) {
+        postings.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns the identity keys of the persons with a tag named by any of {@code tagNames}, ignoring case.
+     * The result is the union of the postings of the named tags.
+     */
+    public synchronized Set<String> getIdentityKeysWithAnyTag(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        Set<String> identityKeys = new HashSet<>();
+        for (String tagName : tagNames) {
+            // tag names are stored in lower case
+            Set<String> posting = postings.get(tagName.toLowerCase());
+            if (posting != null) {
+                identityKeys.addAll(posting);
+            }
+        }
+        return identityKeys;
+    }
+
+    /**
+     * Returns a predicate that tests if a person of the indexed list has a tag named by any of {@code tagNames},
+     * ignoring case. Each test is a hash lookup, and the predicate follows later changes to the indexed list. It
+     * refines another such predicate if each of its tag names is also named by the other.
+     */
+    public RefiningPredicate createAnyTagPredicate(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        return new AnyTagPredicate(List.copyOf(tagNames));
+    }
+
+    /**
+     * Tests persons against the union of the postings of some tags, which is computed again only after the index
+     * has changed.
+     */
+    private class AnyTagPredicate implements RefiningPredicate {
+        private final List<String> tagNames;
+        private Set<String> matchingIdentityKeys;
+        private long matchedModificationCount;
+
+        AnyTagPredicate(List<String> tagNames) {
+            this.tagNames = tagNames;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (matchingIdentityKeys == null || matchedModificationCount != modificationCount) {
+                matchingIdentityKeys = getIdentityKeysWithAnyTag(tagNames);
+                matchedModificationCount = modificationCount;
+            }
+            return matchingIdentityKeys.contains(person.getIdentityKey());
+        }
+
+        @Override
+        public boolean refines(Predicate<? super Person> other) {
+            return other instanceof AnyTagPredicate
+                    && TagContainsKeywordsPredicate.isSubsetOf(tagNames, ((AnyTagPredicate) other).tagNames);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("tagNames", tagNames).toString();
+        }
+    }
+}
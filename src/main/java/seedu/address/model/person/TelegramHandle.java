@@ -23,17 +23,31 @@ public class TelegramHandle {
      * @param handle A valid Telegram handle.
      */
     public TelegramHandle(String handle) {
+        this(handle, true);
+    }
+
+    private TelegramHandle(String handle, boolean isValidationRequired) {
         requireNonNull(handle);
         if (handle.isEmpty()) {
             value = handle;
             isValid = false;
             return;
         }
-        checkArgument(isValidHandle(handle), MESSAGE_CONSTRAINTS);
+        if (isValidationRequired) {
+            checkArgument(isValidHandle(handle), MESSAGE_CONSTRAINTS);
+        }
         value = handle;
         isValid = true;
     }
 
+    /**
+     * Returns a {@code TelegramHandle} with {@code handle} without validating it again.
+     * {@code handle} must be known to be valid, such as when it was saved from another {@code TelegramHandle}.
+     */
+    public static TelegramHandle fromValidated(String handle) {
+        return new TelegramHandle(handle, false);
+    }
+
     /**
      * Returns true if a given string is a valid Telegram handle.
      */
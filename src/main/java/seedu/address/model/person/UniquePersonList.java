@@ -3,8 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +22,17 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Alongside the list, a hash index keyed on {@code Person#getIdentityKey()} is kept in sync so that identity checks
+ * do not need to scan the whole list. The contents are also mirrored in a {@code PersistentPersonList}, so that a
+ * snapshot of the list can be taken in O(1) time without copying it, and the hash index holds the label of each
+ * person in it, so that the position of a person is found in O(log n) time. A {@code TagIndex} of the persons
+ * carrying each tag, a {@code NameIndex} of the words in their names and their {@code PersonStatistics} are also
+ * kept. They are updated before the list itself, so that listeners of the list can already query them.
+ *
+ * A {@code LogIndex} of their log entries and a {@code FullTextIndex} of the words in their notes and log messages
+ * take time proportional to all the text of the persons to build, so they are only built when first used. When the
+ * whole list is replaced, e.g. by an undo, they are kept and only the persons that differ are indexed again.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -27,13 +40,22 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // the label of each person in persistentList, keyed on its identity key
+    private final Map<String, Long> identityIndex = new HashMap<>();
+    private final TagIndex tagIndex = new TagIndex();
+    private final NameIndex nameIndex = new NameIndex();
+    private final PersonStatistics statistics = new PersonStatistics();
+    // null until first used
+    private LogIndex logIndex;
+    private FullTextIndex fullTextIndex;
+    private PersistentPersonList persistentList = PersistentPersonList.empty();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(toCheck.getIdentityKey());
     }
 
     /**
@@ -41,46 +63,109 @@ public class UniquePersonList implements Iterable<Person> {
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Inserts a person into the list at {@code index}.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        PersistentPersonList previousList = persistentList;
+        persistentList = persistentList.add(index, toAdd);
+        if (persistentList.hasSameLabelsAs(previousList)) {
+            identityIndex.put(toAdd.getIdentityKey(), persistentList.getLabel(index));
+        } else {
+            identityIndex.clear();
+            identityIndex.putAll(indexByIdentity(persistentList));
+        }
+        tagIndex.add(toAdd);
+        nameIndex.add(toAdd);
+        statistics.add(toAdd);
+        if (logIndex != null) {
+            logIndex.add(toAdd);
+        }
+        if (fullTextIndex != null) {
+            fullTextIndex.add(toAdd);
+        }
+        internalList.add(index, toAdd);
     }
 
     /**
-     * Replaces the person {@code target} in the list with {@code editedPerson}.
+     * Replaces the person {@code target} in the list with {@code editedPerson}, and returns the index it was at.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public int setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        String targetKey = target.getIdentityKey();
+        String editedKey = editedPerson.getIdentityKey();
+        if (!targetKey.equals(editedKey) && identityIndex.containsKey(editedKey)) {
             throw new DuplicatePersonException();
         }
 
+        persistentList = persistentList.set(index, editedPerson);
+        identityIndex.put(editedKey, identityIndex.remove(targetKey));
+        tagIndex.remove(target);
+        nameIndex.remove(target);
+        statistics.remove(target);
+        tagIndex.add(editedPerson);
+        nameIndex.add(editedPerson);
+        statistics.add(editedPerson);
+        if (logIndex != null) {
+            logIndex.setPerson(target, editedPerson);
+        }
+        if (fullTextIndex != null) {
+            fullTextIndex.setPerson(target, editedPerson);
+        }
         internalList.set(index, editedPerson);
+        return index;
     }
 
     /**
-     * Removes the equivalent person from the list.
+     * Removes the equivalent person from the list, and returns the index it was removed from.
      * The person must exist in the list.
      */
-    public void remove(Person toRemove) {
+    public int remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        persistentList = persistentList.remove(index);
+        identityIndex.remove(toRemove.getIdentityKey());
+        tagIndex.remove(toRemove);
+        nameIndex.remove(toRemove);
+        statistics.remove(toRemove);
+        if (logIndex != null) {
+            logIndex.remove(toRemove);
+        }
+        if (fullTextIndex != null) {
+            fullTextIndex.remove(toRemove);
+        }
+        internalList.remove(index);
+        return index;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        persistentList = replacement.persistentList;
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        tagIndex.setPersons(replacement.internalList);
+        nameIndex.setPersons(replacement.internalList);
+        statistics.setPersons(replacement.internalList);
+        updateTextIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,13 +175,131 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        PersistentPersonList replacementList = PersistentPersonList.of(persons);
+        Map<String, Long> replacementIndex = indexByIdentity(replacementList);
+        if (replacementIndex.size() < persons.size()) {
             throw new DuplicatePersonException();
         }
 
+        persistentList = replacementList;
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        tagIndex.setPersons(persons);
+        nameIndex.setPersons(persons);
+        statistics.setPersons(persons);
+        updateTextIndexes(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Restores the contents of this list to {@code snapshot}, which must have been returned by {@link #snapshot()}
+     * of a {@code UniquePersonList}. As such a snapshot cannot contain duplicate persons, it is not checked for them
+     * again. Later snapshots of this list share structure with {@code snapshot}.
+     */
+    public void restoreSnapshot(PersistentPersonList snapshot) {
+        requireNonNull(snapshot);
+        List<Person> personList = snapshot.toList();
+        persistentList = snapshot;
+        identityIndex.clear();
+        identityIndex.putAll(indexByIdentity(snapshot));
+        tagIndex.setPersons(personList);
+        nameIndex.setPersons(personList);
+        statistics.setPersons(personList);
+        updateTextIndexes(personList);
+        internalList.setAll(personList);
+    }
+
+    /**
+     * Updates the log and full-text indexes, if they are built, from the persons in this list to {@code persons}.
+     * Only the persons that were added, removed or edited between the two are indexed again, so that this takes time
+     * proportional to their text rather than to the text of all persons.
+     */
+    private void updateTextIndexes(List<Person> persons) {
+        if (logIndex == null && fullTextIndex == null) {
+            return;
+        }
+
+        Map<String, Person> removedPersons = new HashMap<>();
+        for (Person person : internalList) {
+            removedPersons.put(person.getIdentityKey(), person);
+        }
+        for (Person person : persons) {
+            Person previousPerson = removedPersons.remove(person.getIdentityKey());
+            if (previousPerson == null) {
+                if (logIndex != null) {
+                    logIndex.add(person);
+                }
+                if (fullTextIndex != null) {
+                    fullTextIndex.add(person);
+                }
+            } else if (previousPerson != person && !previousPerson.equals(person)) {
+                if (logIndex != null) {
+                    logIndex.setPerson(previousPerson, person);
+                }
+                if (fullTextIndex != null) {
+                    fullTextIndex.setPerson(previousPerson, person);
+                }
+            }
+        }
+        for (Person person : removedPersons.values()) {
+            if (logIndex != null) {
+                logIndex.remove(person);
+            }
+            if (fullTextIndex != null) {
+                fullTextIndex.remove(person);
+            }
+        }
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents of this list.
+     * Taking a snapshot does not copy the list; later changes to this list do not affect the snapshot.
+     */
+    public PersistentPersonList snapshot() {
+        return persistentList;
+    }
+
+    /**
+     * Returns the index of the persons in this list carrying each tag.
+     */
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    /**
+     * Returns the index of the words in the names of the persons in this list.
+     */
+    public NameIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    /**
+     * Returns the statistics of the persons in this list.
+     */
+    public PersonStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the index of the log entries of the persons in this list by their timestamps.
+     */
+    public LogIndex getLogIndex() {
+        if (logIndex == null) {
+            logIndex = LogIndex.of(internalList);
+        }
+        return logIndex;
+    }
+
+    /**
+     * Returns the index of the words in the notes and log messages of the persons in this list.
+     */
+    public FullTextIndex getFullTextIndex() {
+        if (fullTextIndex == null) {
+            fullTextIndex = FullTextIndex.of(internalList);
+        }
+        return fullTextIndex;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -135,16 +338,24 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the index of {@code person} in this list, or -1 if this list does not contain it.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private int indexOf(Person person) {
+        Long label = identityIndex.get(person.getIdentityKey());
+        if (label == null) {
+            return -1;
         }
-        return true;
+        int index = persistentList.indexOf(label);
+        return person.equals(persistentList.get(index)) ? index : -1;
+    }
+
+    /**
+     * Returns the labels of {@code persons} keyed on their identity keys. There are fewer labels than persons if
+     * {@code persons} contains duplicate persons.
+     */
+    private static Map<String, Long> indexByIdentity(PersistentPersonList persons) {
+        Map<String, Long> index = new HashMap<>(persons.size() * 2);
+        persons.forEachWithLabel((person, label) -> index.put(person.getIdentityKey(), label));
+        return index;
     }
 }
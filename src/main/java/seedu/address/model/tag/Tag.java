@@ -20,11 +20,25 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, true);
+    }
+
+    private Tag(String tagName, boolean isValidationRequired) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        if (isValidationRequired) {
+            checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        }
         this.tagName = tagName.toLowerCase();
     }
 
+    /**
+     * Returns a {@code Tag} with {@code tagName} without validating it again.
+     * {@code tagName} must be known to be valid, such as when it was saved from another {@code Tag}.
+     */
+    public static Tag fromValidated(String tagName) {
+        return new Tag(tagName, false);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread.
+ * Saves requested while another save is in progress are coalesced, so that only the most recently requested
+ * address book is written to each file. The address books given must not be modified after they are handed over.
+ */
+public class AsyncAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService executor;
+
+    // all fields below are guarded by this
+    private final Map<Path, ReadOnlyAddressBook> pendingSaves = new LinkedHashMap<>();
+    private boolean isSaving;
+    private IOException failure;
+
+    /**
+     * Creates a saver that writes to {@code storage}.
+     */
+    public AsyncAddressBookSaver(AddressBookStorage storage) {
+        this.storage = storage;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests {@code addressBook} to be saved to {@code filePath}, replacing any earlier request for the same file
+     * that has not been written yet. Returns without waiting for the save to complete.
+     */
+    public synchronized void save(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireAllNonNull(addressBook, filePath);
+        pendingSaves.remove(filePath);
+        pendingSaves.put(filePath, addressBook);
+        if (!isSaving) {
+            isSaving = true;
+            executor.execute(this::writePendingSaves);
+        }
+    }
+
+    /**
+     * Returns the error of the most recent save that failed, if no save has succeeded since.
+     * The error is only returned once.
+     */
+    public synchronized Optional<IOException> takeFailure() {
+        Optional<IOException> result = Optional.ofNullable(failure);
+        failure = null;
+        return result;
+    }
+
+    /**
+     * Blocks until all requested saves have been written.
+     *
+     * @throws IOException if the most recent save failed.
+     */
+    public synchronized void flush() throws IOException {
+        while (isSaving) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warning("Interrupted while waiting for the address book to be saved");
+                return;
+            }
+        }
+        Optional<IOException> lastFailure = takeFailure();
+        if (lastFailure.isPresent()) {
+            throw lastFailure.get();
+        }
+    }
+
+    private void writePendingSaves() {
+        while (true) {
+            Path filePath;
+            ReadOnlyAddressBook addressBook;
+            synchronized (this) {
+                Iterator<Map.Entry<Path, ReadOnlyAddressBook>> iterator = pendingSaves.entrySet().iterator();
+                if (!iterator.hasNext()) {
+                    isSaving = false;
+                    notifyAll();
+                    return;
+                }
+                Map.Entry<Path, ReadOnlyAddressBook> next = iterator.next();
+                filePath = next.getKey();
+                addressBook = next.getValue();
+                iterator.remove();
+            }
+
+            IOException saveFailure = null;
+            try {
+                storage.saveAddressBook(addressBook, filePath);
+            } catch (IOException e) {
+                saveFailure = e;
+            } catch (RuntimeException e) {
+                saveFailure = new IOException(e.getMessage(), e);
+            }
+
+            if (saveFailure != null) {
+                logger.warning("Failed to save address book to " + filePath + ": "
+                        + StringUtil.getDetails(saveFailure));
+            }
+            synchronized (this) {
+                failure = saveFailure;
+            }
+        }
+    }
+}
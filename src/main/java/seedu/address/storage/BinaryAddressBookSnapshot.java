@@ -0,0 +1,217 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.InteractionLog;
+import seedu.address.model.person.LogEntry;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.TelegramHandle;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes the persons of an address book in a compact binary format, as a copy of a json snapshot file
+ * that is much faster to load.
+ *
+ * The file starts with a magic number, the format version and the checksum of the json snapshot file it is a copy
+ * of, followed by the table of tags, the persons, and finally the checksum of all preceding bytes. Strings are
+ * stored as their length in bytes followed by their UTF-8 encoding, and lists as their length followed by their
+ * elements. As the file can only have been written from valid persons, and is rejected if it was modified since,
+ * its values are not validated again when it is read.
+ */
+class BinaryAddressBookSnapshot {
+
+    static final int MAGIC_NUMBER = 0x4C4B5550;
+    static final int FORMAT_VERSION = 1;
+
+    private final long jsonChecksum;
+    private final List<Person> persons;
+
+    BinaryAddressBookSnapshot(long jsonChecksum, List<Person> persons) {
+        this.jsonChecksum = jsonChecksum;
+        this.persons = persons;
+    }
+
+    long getJsonChecksum() {
+        return jsonChecksum;
+    }
+
+    List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Writes this snapshot to {@code filePath}, replacing any existing file.
+     */
+    void write(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(
+                new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)), crc))) {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(jsonChecksum);
+
+            Map<Tag, Integer> tagIds = new HashMap<>();
+            List<Tag> tags = new ArrayList<>();
+            for (Person person : persons) {
+                for (Tag tag : person.getTags()) {
+                    if (tagIds.putIfAbsent(tag, tags.size()) == null) {
+                        tags.add(tag);
+                    }
+                }
+            }
+            out.writeInt(tags.size());
+            for (Tag tag : tags) {
+                writeString(out, tag.tagName);
+            }
+
+            out.writeInt(persons.size());
+            for (Person person : persons) {
+                writePerson(out, person, tagIds);
+            }
+
+            out.writeLong(crc.getValue());
+        }
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<Tag, Integer> tagIds)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getTelegramHandle().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeString(out, person.getNote().value);
+        out.writeBoolean(person.isPinned());
+
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(tagIds.get(tag));
+        }
+
+        List<LogEntry> logs = person.getLogs().getLogs();
+        out.writeInt(logs.size());
+        for (LogEntry log : logs) {
+            writeString(out, log.getMessage());
+            writeString(out, log.getType());
+            out.writeLong(log.getTimestamp().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(log.getTimestamp().getNano());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath}.
+     * Returns {@code Optional.empty()} if the file is not found, was written in another format version, or was
+     * modified after it was written.
+     *
+     * @throws IOException if there was any problem reading the file.
+     */
+    static Optional<BinaryAddressBookSnapshot> read(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        // no length in a valid file can be larger than the file itself
+        long maxLength = Files.size(filePath);
+        CRC32 crc = new CRC32();
+        try (DataInputStream in = new DataInputStream(
+                new CheckedInputStream(new BufferedInputStream(Files.newInputStream(filePath)), crc))) {
+            if (in.readInt() != MAGIC_NUMBER || in.readInt() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            long jsonChecksum = in.readLong();
+
+            Tag[] tags = new Tag[readLength(in, maxLength)];
+            for (int i = 0; i < tags.length; i++) {
+                tags[i] = Tag.fromValidated(readString(in, maxLength));
+            }
+
+            int personCount = readLength(in, maxLength);
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson(in, tags, maxLength));
+            }
+
+            long expectedChecksum = crc.getValue();
+            if (in.readLong() != expectedChecksum) {
+                return Optional.empty();
+            }
+            return Optional.of(new BinaryAddressBookSnapshot(jsonChecksum, persons));
+        } catch (EOFException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            // the file was cut short or modified
+            return Optional.empty();
+        }
+    }
+
+    private static Person readPerson(DataInputStream in, Tag[] tags, long maxLength) throws IOException {
+        Name name = Name.fromValidated(readString(in, maxLength));
+        Phone phone = Phone.fromValidated(readString(in, maxLength));
+        TelegramHandle telegramHandle = TelegramHandle.fromValidated(readString(in, maxLength));
+        Email email = Email.fromValidated(readString(in, maxLength));
+        Address address = Address.fromValidated(readString(in, maxLength));
+        Note note = new Note(readString(in, maxLength));
+        boolean isPinned = in.readBoolean();
+
+        int tagCount = readLength(in, maxLength);
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            personTags.add(tags[in.readInt()]);
+        }
+
+        int logCount = readLength(in, maxLength);
+        List<LogEntry> logs = new ArrayList<>(logCount);
+        for (int i = 0; i < logCount; i++) {
+            String message = readString(in, maxLength);
+            String type = readString(in, maxLength);
+            LocalDateTime timestamp = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            logs.add(new LogEntry(message, type, timestamp));
+        }
+
+        return new Person(name, phone, telegramHandle, email, address, personTags, note, new InteractionLog(logs),
+                isPinned);
+    }
+
+    private static int readLength(DataInputStream in, long maxLength) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > maxLength) {
+            throw new IllegalArgumentException("Invalid length " + length);
+        }
+        return length;
+    }
+
+    private static String readString(DataInputStream in, long maxLength) throws IOException {
+        byte[] bytes = new byte[readLength(in, maxLength)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
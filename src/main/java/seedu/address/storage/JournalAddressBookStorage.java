@@ -0,0 +1,401 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersistentPersonList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file together with a journal of later changes.
+ * The snapshot file has the same format as the file of {@link JsonAddressBookStorage}. Each save appends only the
+ * persons that changed since the previous save to the journal, which is named after the snapshot file with a
+ * {@code .journal} suffix. The changes are taken from those recorded by the address book where it has them, and are
+ * only found by comparing all persons with the ones saved before otherwise. Once the journal grows past
+ * {@link #DEFAULT_COMPACTION_THRESHOLD} entries, or when {@link #compact()} is called, a new snapshot is written and
+ * the journal is discarded.
+ *
+ * Every snapshot file is also copied to a binary file named after it with a {@code .bin} suffix, which is read
+ * instead of the snapshot file on startup as long as the snapshot file has not changed since. Reading never writes
+ * any file: a snapshot file read without an up-to-date binary copy gets one on the next save or compaction.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String BINARY_FILE_SUFFIX = ".bin";
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path filePath;
+    private final int compactionThreshold;
+
+    // state of the last address book read or saved, so that later saves only need to record the differences
+    private Path journaledFilePath;
+    private PersistentPersonList savedPersons;
+    // the last change recorded by the address book last saved, or null if the changes since are not known
+    private AddressBookChange savedChange;
+    private long snapshotChecksum;
+    private int journalLength;
+    private boolean isSnapshotRequired;
+    // the persons of a snapshot file read without an up-to-date binary copy, or null if it has one
+    private List<Person> unsavedBinaryPersons;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that writes a new snapshot once the journal has more than {@code compactionThreshold}
+     * entries.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the binary copy of the snapshot file at {@code filePath}.
+     */
+    public static Path getBinaryFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BINARY_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            // checksumming the snapshot file is much cheaper than parsing it, so its binary copy is tried first
+            long checksum = computeChecksum(filePath);
+            Optional<List<Person>> binaryPersons = readBinarySnapshot(filePath, checksum);
+            List<Person> persons;
+            List<Person> jsonPersons = null;
+            if (binaryPersons.isPresent()) {
+                persons = binaryPersons.get();
+            } else {
+                persons = readJsonSnapshot(filePath);
+                // copied before the journal is replayed onto the persons
+                jsonPersons = List.copyOf(persons);
+            }
+
+            isSnapshotRequired = false;
+            int replayedChanges = replayJournal(getJournalFilePath(filePath), checksum, persons);
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+
+            journaledFilePath = filePath;
+            savedPersons = PersistentPersonList.of(persons);
+            savedChange = null;
+            snapshotChecksum = checksum;
+            journalLength = replayedChanges;
+            unsavedBinaryPersons = jsonPersons;
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Illegal values found in " + filePath + ": " + dpe.getMessage());
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+    }
+
+    private static long computeChecksum(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(filePath), crc)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (in.read(buffer) != -1) {
+                // only read to update the checksum
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static List<Person> readJsonSnapshot(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(filePath))) {
+            return new ArrayList<>(JsonSerializableAddressBook.readAddressBook(parser).getPersonList());
+        }
+    }
+
+    /**
+     * Returns the persons in the binary copy of the snapshot file at {@code filePath}, if there is a valid copy of the
+     * snapshot file with checksum {@code checksum}.
+     */
+    private static Optional<List<Person>> readBinarySnapshot(Path filePath, long checksum) {
+        Path binaryFilePath = getBinaryFilePath(filePath);
+        try {
+            Optional<BinaryAddressBookSnapshot> snapshot = BinaryAddressBookSnapshot.read(binaryFilePath);
+            if (snapshot.isPresent() && snapshot.get().getJsonChecksum() == checksum) {
+                return Optional.of(new ArrayList<>(snapshot.get().getPersons()));
+            }
+            if (Files.exists(binaryFilePath)) {
+                logger.info("Ignoring outdated binary snapshot " + binaryFilePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + binaryFilePath + ": " + e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Writes {@code persons} as the binary copy of the snapshot file at {@code filePath} with checksum
+     * {@code checksum}. As the snapshot file can still be read without its copy, failures are only logged.
+     */
+    private static void writeBinarySnapshot(List<Person> persons, Path filePath, long checksum) {
+        Path binaryFilePath = getBinaryFilePath(filePath);
+        Path tempFilePath = binaryFilePath.resolveSibling(binaryFilePath.getFileName() + ".tmp");
+        try {
+            new BinaryAddressBookSnapshot(checksum, persons).write(tempFilePath);
+            moveReplacing(tempFilePath, binaryFilePath);
+        } catch (IOException e) {
+            logger.warning("Error writing to file " + binaryFilePath + ": " + e);
+        }
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Applies the changes in the journal at {@code journalPath} that were made on top of the snapshot with checksum
+     * {@code checksum} to {@code persons}, and returns the number of changes applied.
+     */
+    private int replayJournal(Path journalPath, long checksum, List<Person> persons)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        int replayedChanges = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonAdaptedAddressBookChange change;
+                try {
+                    change = JsonUtil.fromJsonString(line, JsonAdaptedAddressBookChange.class);
+                } catch (IOException e) {
+                    if (nextLine == null) {
+                        // the app was stopped while the last change was being written, so it was never saved;
+                        // a new snapshot is written next so that later changes do not follow the broken entry
+                        logger.warning("Ignoring incomplete last entry of journal " + journalPath);
+                        isSnapshotRequired = true;
+                        break;
+                    }
+                    throw e;
+                }
+
+                // changes made on top of an older snapshot are already part of the current one
+                if (change.getSnapshotChecksum() == checksum) {
+                    change.applyTo(persons);
+                    replayedChanges++;
+                }
+                line = nextLine;
+            }
+        }
+        return replayedChanges;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Optional<AddressBookChange> lastChange = addressBook.getLastChange();
+        if (!filePath.equals(journaledFilePath) || isSnapshotRequired || journalLength >= compactionThreshold) {
+            saveSnapshot(new ArrayList<>(addressBook.getPersonList()), filePath);
+            savedChange = lastChange.orElse(null);
+            return;
+        }
+        saveBinarySnapshot();
+
+        Optional<List<AddressBookChange>> recordedChanges = Optional.empty();
+        if (lastChange.isPresent() && savedChange != null) {
+            recordedChanges = lastChange.get().getChangesSince(savedChange);
+        }
+        List<JsonAdaptedAddressBookChange> changes = new ArrayList<>();
+        PersistentPersonList persons = savedPersons;
+        if (recordedChanges.isPresent()) {
+            // only the persons changed are looked at, so that the save takes time proportional to the changes
+            for (AddressBookChange change : recordedChanges.get()) {
+                changes.add(JsonAdaptedAddressBookChange.fromModelType(snapshotChecksum, change.getIndex(),
+                        change.getRemovedCount(), change.getAddedPersons()));
+                persons = change.applyTo(persons);
+            }
+        } else {
+            List<Person> personList = new ArrayList<>(addressBook.getPersonList());
+            findChange(savedPersons.toList(), personList).ifPresent(changes::add);
+            persons = PersistentPersonList.of(personList);
+        }
+
+        if (!changes.isEmpty()) {
+            StringBuilder entries = new StringBuilder();
+            for (JsonAdaptedAddressBookChange change : changes) {
+                entries.append(JsonUtil.toSingleLineJsonString(change)).append('\n');
+            }
+            try {
+                Files.write(getJournalFilePath(filePath), entries.toString().getBytes(StandardCharsets.UTF_8),
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                // the entries may have been partially written, so the journal cannot be appended to any more
+                isSnapshotRequired = true;
+                throw e;
+            }
+        }
+        savedPersons = persons;
+        savedChange = lastChange.orElse(null);
+        journalLength += changes.size();
+    }
+
+    /**
+     * Returns the change that turns {@code savedPersons} into {@code persons}, found by comparing the persons that
+     * both lists start and end with, if there is any.
+     */
+    private Optional<JsonAdaptedAddressBookChange> findChange(List<Person> savedPersons, List<Person> persons) {
+        int prefixLength = 0;
+        int maxCommonLength = Math.min(savedPersons.size(), persons.size());
+        while (prefixLength < maxCommonLength
+                && isUnchanged(savedPersons.get(prefixLength), persons.get(prefixLength))) {
+            prefixLength++;
+        }
+        int suffixLength = 0;
+        while (suffixLength < maxCommonLength - prefixLength
+                && isUnchanged(savedPersons.get(savedPersons.size() - 1 - suffixLength),
+                        persons.get(persons.size() - 1 - suffixLength))) {
+            suffixLength++;
+        }
+
+        int removedCount = savedPersons.size() - prefixLength - suffixLength;
+        List<Person> addedPersons = persons.subList(prefixLength, persons.size() - suffixLength);
+        if (removedCount == 0 && addedPersons.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(
+                JsonAdaptedAddressBookChange.fromModelType(snapshotChecksum, prefixLength, removedCount, addedPersons));
+    }
+
+    /**
+     * Merges the journal of the last address book read or saved into its snapshot file, so that the snapshot file
+     * alone holds all saved data.
+     */
+    public synchronized void compact() throws IOException {
+        if (journaledFilePath != null && (journalLength > 0 || isSnapshotRequired)) {
+            saveSnapshot(savedPersons.toList(), journaledFilePath);
+        } else {
+            saveBinarySnapshot();
+        }
+    }
+
+    /**
+     * Writes the binary copy of the snapshot file last read, if it was read without an up-to-date copy.
+     */
+    private void saveBinarySnapshot() {
+        if (unsavedBinaryPersons != null) {
+            writeBinarySnapshot(unsavedBinaryPersons, journaledFilePath, snapshotChecksum);
+            unsavedBinaryPersons = null;
+        }
+    }
+
+    private static boolean isUnchanged(Person savedPerson, Person person) {
+        return savedPerson == person || savedPerson.equals(person);
+    }
+
+    /**
+     * Writes {@code persons} as a new snapshot to {@code filePath} and discards its journal.
+     */
+    private void saveSnapshot(List<Person> persons, Path filePath) throws IOException {
+        // the new snapshot replaces the old one in a single step, so a crash leaves either of them intact;
+        // a journal left behind belongs to the old snapshot and is ignored due to the changed checksum
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        try (JsonGenerator generator = JsonUtil.createGenerator(
+                new CheckedOutputStream(Files.newOutputStream(tempFilePath), crc))) {
+            JsonSerializableAddressBook.writeAddressBook(generator, persons);
+            generator.writeRaw('\n');
+        }
+        moveReplacing(tempFilePath, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        // a binary copy of the old snapshot is ignored due to the changed checksum
+        writeBinarySnapshot(persons, filePath, crc.getValue());
+
+        journaledFilePath = filePath;
+        savedPersons = PersistentPersonList.of(persons);
+        snapshotChecksum = crc.getValue();
+        journalLength = 0;
+        isSnapshotRequired = false;
+        unsavedBinaryPersons = null;
+    }
+
+}
@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly record of a change to the persons list of an address book.
+ * The change replaces {@code removedCount} persons starting at {@code index} with {@code addedPersons}, and only
+ * applies to the snapshot file whose checksum is {@code snapshotChecksum}.
+ */
+class JsonAdaptedAddressBookChange {
+
+    public static final String MESSAGE_INVALID_RANGE = "Journal entry refers to persons that do not exist!";
+
+    private final long snapshotChecksum;
+    private final int index;
+    private final int removedCount;
+    private final List<JsonAdaptedPerson> addedPersons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookChange} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookChange(@JsonProperty("snapshotChecksum") long snapshotChecksum,
+            @JsonProperty("index") int index, @JsonProperty("removedCount") int removedCount,
+            @JsonProperty("addedPersons") List<JsonAdaptedPerson> addedPersons) {
+        this.snapshotChecksum = snapshotChecksum;
+        this.index = index;
+        this.removedCount = removedCount;
+        if (addedPersons != null) {
+            this.addedPersons.addAll(addedPersons);
+        }
+    }
+
+    /**
+     * Converts a change that replaces {@code removedCount} persons starting at {@code index} with
+     * {@code addedPersons} into this class for Jackson use.
+     */
+    public static JsonAdaptedAddressBookChange fromModelType(long snapshotChecksum, int index, int removedCount,
+            List<Person> addedPersons) {
+        return new JsonAdaptedAddressBookChange(snapshotChecksum, index, removedCount,
+                addedPersons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    public long getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+
+    /**
+     * Applies this change to {@code persons}.
+     *
+     * @throws IllegalValueException if this change does not fit {@code persons}, or if any of the added persons
+     *     violates a data constraint.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (index < 0 || removedCount < 0 || index + removedCount > persons.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_RANGE);
+        }
+
+        List<Person> modelAddedPersons = new ArrayList<>();
+        for (JsonAdaptedPerson addedPerson : addedPersons) {
+            modelAddedPersons.add(addedPerson.toModelType());
+        }
+        List<Person> replacedRange = persons.subList(index, index + removedCount);
+        replacedRange.clear();
+        replacedRange.addAll(modelAddedPersons);
+    }
+
+}
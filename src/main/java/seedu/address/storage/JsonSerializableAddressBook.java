@@ -1,17 +1,25 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,6 +29,11 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    /** Number of persons read from a JSON stream before they are converted together. */
+    static final int CONVERSION_BATCH_SIZE = 1024;
+
+    private static final String PERSONS_FIELD = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -46,15 +59,109 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        return toAddressBook(toModelTypes(persons));
+    }
+
+    /**
+     * Reads an address book in the JSON format of this class from {@code parser} into the model's
+     * {@code AddressBook} object. Persons are read in batches of {@link #CONVERSION_BATCH_SIZE}, so the JSON form
+     * of the whole address book is never held in memory, and each batch is converted in parallel.
+     *
+     * @throws IOException if the data read is not an address book in the JSON format of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName) || valueToken == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a list of persons");
             }
-            addressBook.addPerson(person);
+
+            List<JsonAdaptedPerson> batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null) {
+                    throw new JsonParseException(parser, "Unexpected end of the list of persons");
+                }
+                batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                if (batch.size() == CONVERSION_BATCH_SIZE) {
+                    modelPersons.addAll(toModelTypes(batch));
+                    batch.clear();
+                }
+            }
+            modelPersons.addAll(toModelTypes(batch));
+        }
+
+        if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Unexpected end of the address book");
+        }
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPersons} into the model's {@code Person} objects, in parallel on the common
+     * fork/join pool as each conversion is independent of the others.
+     *
+     * @throws IllegalValueException if any person violates data constraints. The error of the earliest such person
+     *     in {@code jsonAdaptedPersons} is thrown, as in a sequential conversion.
+     */
+    private static List<Person> toModelTypes(List<JsonAdaptedPerson> jsonAdaptedPersons) throws IllegalValueException {
+        Person[] modelPersons = new Person[jsonAdaptedPersons.size()];
+        IllegalValueException[] errors = new IllegalValueException[jsonAdaptedPersons.size()];
+        IntStream.range(0, modelPersons.length).parallel().forEach(i -> {
+            try {
+                modelPersons[i] = jsonAdaptedPersons.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
+            }
+        });
+
+        for (IllegalValueException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+        return Arrays.asList(modelPersons);
+    }
+
+    /**
+     * Creates an {@code AddressBook} holding {@code modelPersons}. Duplicates are detected by the single hash pass
+     * the address book makes over the persons it is given, instead of a check before each person is added.
+     *
+     * @throws IllegalValueException if {@code modelPersons} contains duplicate persons.
+     */
+    private static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
 
+    /**
+     * Writes an address book with {@code persons} to {@code generator} in the JSON format of this class.
+     * Persons are converted and written one at a time, so the JSON form of the whole address book is never held in
+     * memory.
+     */
+    public static void writeAddressBook(JsonGenerator generator, List<Person> persons) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : persons) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
 }
@@ -1,12 +1,12 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -17,6 +17,8 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandTextListener commandTextListener;
+    private boolean isRunningCommand;
 
     @FXML
     private TextField commandTextField;
@@ -25,24 +27,46 @@ public class CommandBox extends UiPart<Region> {
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, unused -> {});
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} that tells {@code commandTextListener}
+     * about every change to the command being typed.
+     */
+    public CommandBox(CommandExecutor commandExecutor, CommandTextListener commandTextListener) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandTextListener = commandTextListener;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            if (!isRunningCommand) {
+                commandTextListener.commandTextChanged(newText);
+            }
+        });
     }
 
     /**
      * Handles the Enter button pressed event.
+     * The command runs in the background, and further commands are not accepted until it has finished.
      */
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (commandText.equals("") || isRunningCommand) {
             return;
         }
 
-        try {
-            CommandResult result = commandExecutor.execute(commandText);
+        isRunningCommand = true;
+        commandTextField.setEditable(false);
+        commandExecutor.execute(commandText).whenComplete((result, error) -> {
+            isRunningCommand = false;
+            commandTextField.setEditable(true);
+            if (error != null) {
+                setStyleToIndicateCommandFailure();
+                return;
+            }
 
             // Check if this is an inline edit request
             if (result.isInlineEdit()) {
@@ -51,9 +75,7 @@ public class CommandBox extends UiPart<Region> {
             } else {
                 commandTextField.setText("");
             }
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        });
     }
 
     /**
@@ -82,11 +104,25 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command and returns a future of the result, which is completed on the application thread.
+         * The future fails if the command could not be parsed or executed.
+         *
+         * @see seedu.address.logic.Logic#executeInBackground(String)
+         */
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that is told about the command being typed.
+     */
+    @FunctionalInterface
+    public interface CommandTextListener {
+        /**
+         * Called on the application thread whenever the text of the command box changes.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#updateLiveSearch(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void commandTextChanged(String commandText);
     }
 
 }
@@ -23,9 +23,11 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.LogsCommand;
 import seedu.address.logic.commands.NoteCommand;
 import seedu.address.logic.commands.PinCommand;
 import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UndoCommand;
@@ -151,6 +153,7 @@ public class HelpWindow extends UiPart<Stage> {
             ExportCommand.MESSAGE_USAGE,
             FilterCommand.MESSAGE_USAGE,
             FindCommand.MESSAGE_USAGE,
+            SearchCommand.MESSAGE_USAGE,
             HelpCommand.MESSAGE_USAGE,
             ImportCommand.MESSAGE_USAGE,
             ListCommand.MESSAGE_USAGE,
@@ -160,6 +163,7 @@ public class HelpWindow extends UiPart<Stage> {
             UndoCommand.MESSAGE_USAGE,
             RedoCommand.MESSAGE_USAGE,
             NoteCommand.MESSAGE_USAGE,
+            LogsCommand.MESSAGE_USAGE,
             StatsCommand.MESSAGE_USAGE
         );
 
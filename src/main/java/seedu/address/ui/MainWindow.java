@@ -1,9 +1,12 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.Cursor;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
@@ -14,8 +17,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -126,7 +128,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::updateLiveSearch);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         personListPanel.getPersonListView().getSelectionModel().selectedItemProperty().addListener((
@@ -179,48 +181,67 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background and returns a future of its result, which is completed after the
+     * result has been displayed. The window shows that it is busy until then.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeInBackground(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            var selectedPerson = personListPanel.getPersonListView().getSelectionModel().getSelectedItem();
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        var selectedPerson = personListPanel.getPersonListView().getSelectionModel().getSelectedItem();
+        setBusy(true);
+        return logic.executeInBackground(commandText).whenComplete((commandResult, error) -> {
+            setBusy(false);
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(cause.getMessage());
+                return;
             }
+            handleCommandResult(commandText, commandResult, selectedPerson);
+        });
+    }
 
-            if (commandResult.isShowStats()) {
-                personListPanel.getPersonListView().getSelectionModel().clearSelection();
-                personInfoPanel.displayPerson(null);
-            }
+    /**
+     * Shows the result of a command that was executed successfully.
+     */
+    private void handleCommandResult(String commandText, CommandResult commandResult, Person selectedPerson) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            if (!personInfoPanel.getCurrentPersonExists()) {
-                personListPanel.getPersonListView().getSelectionModel().clearSelection();
-                personInfoPanel.displayPerson(null);
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+        if (commandResult.isShowStats()) {
+            personListPanel.getPersonListView().getSelectionModel().clearSelection();
+            personInfoPanel.displayPerson(null);
+        }
 
-            commandResult.getPersonToSelect().ifPresent(personListPanel::selectPerson);
+        if (!personInfoPanel.getCurrentPersonExists()) {
+            personListPanel.getPersonListView().getSelectionModel().clearSelection();
+            personInfoPanel.displayPerson(null);
+        }
 
-            if (commandText.trim().equalsIgnoreCase("undo")
-                    || commandText.trim().equalsIgnoreCase("redo")
-                    && selectedPerson != null) {
-                personListPanel.selectPerson(selectedPerson);
-            }
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        commandResult.getPersonToSelect().ifPresent(personListPanel::selectPerson);
+
+        if (commandText.trim().equalsIgnoreCase("undo")
+                || commandText.trim().equalsIgnoreCase("redo")
+                && selectedPerson != null) {
+            personListPanel.selectPerson(selectedPerson);
+        }
+    }
+
+    /**
+     * Shows a busy cursor over the window while a command is running. The window stays responsive, so the person
+     * list can still be scrolled.
+     */
+    private void setBusy(boolean isBusy) {
+        if (primaryStage.getScene() != null) {
+            primaryStage.getScene().setCursor(isBusy ? Cursor.WAIT : Cursor.DEFAULT);
         }
     }
 }
@@ -2,13 +2,9 @@ package seedu.address.ui;
 
 import java.awt.Desktop;
 import java.net.URI;
-import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.scene.Node;
@@ -20,6 +16,7 @@ import javafx.scene.layout.VBox;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
 
 /**
  * Panel that displays detailed information of a selected {@code Person}.
@@ -103,26 +100,25 @@ public class PersonInfoPanel extends UiPart<Region> {
      * Displays three key statistics in the LinkedUp default page.
      */
     private void displayStatistics() {
-        int totalContacts = this.addressBook.getPersonList().size();
-        List<String[]> topTags = getTopTags(new ArrayList<>(this.addressBook.getPersonList()));
+        PersonStatistics statistics = this.addressBook.getStatistics();
 
         name.setText("LinkedUp Statistics");
         setPersonDisplay(false);
 
         // populate FXML-defined statistics nodes instead of building nodes in code
-        totalContactsValue.setText(String.valueOf(totalContacts));
+        totalContactsValue.setText(String.valueOf(statistics.getPersonCount()));
 
         statTagFlow.getChildren().clear();
-        for (String[] tag : topTags) {
-            Label tagLabel = new Label(tag[0] + "(" + tag[1] + ")");
+        for (String tagName : statistics.getTopTags(MAX_NUMBER_OF_TAGS)) {
+            Label tagLabel = new Label(tagName + "(" + statistics.getTagCount(tagName) + ")");
             tagLabel.getStyleClass().add("label");
             statTagFlow.getChildren().add(tagLabel);
         }
 
-        String mostCommonWord = getMostCommonEmailDomain();
-        statsEmailValue.setText(mostCommonWord.isEmpty() ? "-" : mostCommonWord);
-        statsLogValue.setText(getPersonMostLogs(this.addressBook.getPersonList()).isEmpty()
-                ? "no logs" : getPersonMostLogs(this.addressBook.getPersonList()));
+        statsEmailValue.setText(statistics.getMostCommonEmailDomain().orElse("-"));
+        statsLogValue.setText(statistics.getPersonWithMostLogs()
+                .map(p -> p.getName().fullName + " (" + p.getLogs().size() + ")")
+                .orElse("no logs"));
 
         // ensure statsBox is visible and managed so it occupies layout space
         if (statsBox != null) {
@@ -218,42 +214,6 @@ public class PersonInfoPanel extends UiPart<Region> {
         }
     }
 
-    private List<String[]> getTopTags(List<Person> allPersons) {
-        return allPersons.stream()
-                .flatMap(person -> person.getTags().stream())
-                .collect(Collectors.groupingBy(tag -> tag.tagName, Collectors.counting()))
-                .entrySet().stream()
-                .sorted((a, b) -> Long.compare(b.getValue(), a.getValue()))
-                .limit(MAX_NUMBER_OF_TAGS)
-                .map(entry -> new String[]{entry.getKey(), String.valueOf(entry.getValue())})
-                .collect(Collectors.toList());
-    }
-
-    private String getMostCommonEmailDomain() {
-        Map<String, Integer> domainCount = new HashMap<>();
-
-        for (Person person : addressBook.getPersonList()) {
-            String email = person.getEmail().value;
-            int atIdx = email.indexOf('@');
-            if (atIdx != -1) {
-                String domain = email.substring(atIdx + 1);
-                domainCount.put(domain, domainCount.getOrDefault(domain, 0) + 1);
-            }
-        }
-
-        return domainCount.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse("");
-    }
-
-    private String getPersonMostLogs(List<Person> allPersons) {
-        return allPersons.stream()
-                .filter(p -> !p.getLogs().isEmpty())
-                .max(Comparator.comparingInt(p -> p.getLogs().size()))
-                .map(p -> p.getName().fullName + " (" + p.getLogs().size() + ")").orElse("");
-    }
-
     public boolean getCurrentPersonExists() {
         return currentPerson != null;
     }
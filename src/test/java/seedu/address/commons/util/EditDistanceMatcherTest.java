@@ -0,0 +1,139 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.TestUtil;
+
+public class EditDistanceMatcherTest {
+
+    private static final int TIMED_WORD_COUNT = 1000;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new EditDistanceMatcher(null));
+    }
+
+    @Test
+    public void distance_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new EditDistanceMatcher("abc").distance(null));
+    }
+
+    @Test
+    public void distance_knownPairs_correctDistance() {
+        assertEquals(0, new EditDistanceMatcher("").distance(""));
+        assertEquals(3, new EditDistanceMatcher("").distance("abc"));
+        assertEquals(3, new EditDistanceMatcher("abc").distance(""));
+        assertEquals(0, new EditDistanceMatcher("alice").distance("alice"));
+        assertEquals(2, new EditDistanceMatcher("alice").distance("alcie"));
+        assertEquals(3, new EditDistanceMatcher("kitten").distance("sitting"));
+        assertEquals(1, new EditDistanceMatcher("zoë").distance("zoe"));
+    }
+
+    @Test
+    public void distance_randomPairs_sameAsFullTable() {
+        Random random = new Random(42);
+        for (String pattern : randomStrings(random)) {
+            EditDistanceMatcher matcher = new EditDistanceMatcher(pattern);
+            List<String> texts = randomStrings(random);
+            for (int edits = 1; edits <= 4; edits++) {
+                texts.add(randomlyEdited(random, pattern, edits));
+            }
+            for (String text : texts) {
+                int expected = StringUtil.levenshteinDistance(pattern, text);
+                assertEquals(expected, matcher.distance(text), pattern + " / " + text);
+                for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                    assertEquals(Math.min(expected, maxDistance + 1), matcher.distance(text, maxDistance),
+                            pattern + " / " + text + " within " + maxDistance);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void isWithinDistance() {
+        EditDistanceMatcher matcher = new EditDistanceMatcher("meier");
+        assertTrue(matcher.isWithinDistance("meyer", 1));
+        assertTrue(matcher.isWithinDistance("meier", 0));
+        assertFalse(matcher.isWithinDistance("mayer", 1));
+        assertFalse(matcher.isWithinDistance("meierhofer", 2));
+    }
+
+    @Test
+    public void isWithinDistance_longWords_fasterThanFullTable() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < TIMED_WORD_COUNT; i++) {
+            words.add(randomlyEdited(random, "", 32 + random.nextInt(33)));
+        }
+        List<EditDistanceMatcher> matchers = new ArrayList<>();
+        for (String word : words) {
+            matchers.add(new EditDistanceMatcher(word));
+        }
+
+        int[] matchCounts = new int[2];
+        long fullTableTime = TestUtil.getBestRunningTime(() -> {
+            matchCounts[0] = 0;
+            for (String pattern : words) {
+                for (String text : words) {
+                    matchCounts[0] += StringUtil.levenshteinDistance(pattern, text) <= 2 ? 1 : 0;
+                }
+            }
+        }, 3);
+        long matcherTime = TestUtil.getBestRunningTime(() -> {
+            matchCounts[1] = 0;
+            for (EditDistanceMatcher matcher : matchers) {
+                for (String text : words) {
+                    matchCounts[1] += matcher.isWithinDistance(text, 2) ? 1 : 0;
+                }
+            }
+        }, 3);
+        assertEquals(matchCounts[0], matchCounts[1]);
+        // the matcher handles a whole column of the table in a few operations, while the full table handles each cell
+        assertTrue(matcherTime * 3 < fullTableTime,
+                "matcher: " + matcherTime + "ns, full table: " + fullTableTime + "ns");
+    }
+
+    /**
+     * Returns {@code s} with {@code edits} random insertions, deletions or substitutions.
+     */
+    private static String randomlyEdited(Random random, String s, int edits) {
+        StringBuilder builder = new StringBuilder(s);
+        for (int i = 0; i < edits; i++) {
+            int operation = builder.length() == 0 ? 0 : random.nextInt(3);
+            char c = "abcd".charAt(random.nextInt(4));
+            if (operation == 0) {
+                builder.insert(random.nextInt(builder.length() + 1), c);
+            } else if (operation == 1) {
+                builder.deleteCharAt(random.nextInt(builder.length()));
+            } else {
+                builder.setCharAt(random.nextInt(builder.length()), c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns strings of lengths around the bit-parallel limit, over a small alphabet so that they share characters.
+     */
+    private static List<String> randomStrings(Random random) {
+        List<String> strings = new ArrayList<>();
+        int[] lengths = {0, 1, 2, 3, 5, 8, 13, 63, 64, 65, 70};
+        for (int length : lengths) {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                builder.append("abcd".charAt(random.nextInt(4)));
+            }
+            strings.add(builder.toString());
+        }
+        return strings;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -129,6 +130,28 @@ public class StringUtilTest {
      * Equivalence Partitions: null, valid throwable object
      */
 
+    //---------------- Tests for fuzzyMatch --------------------------------------
+
+    @Test
+    public void fuzzyMatch_validInputs_correctResult() {
+        // short sources allow a single edit
+        assertTrue(StringUtil.fuzzyMatch("Bob", "bib", 2));
+        assertFalse(StringUtil.fuzzyMatch("Bob", "bibi", 2));
+
+        // longer sources allow up to the threshold, ignoring case
+        assertTrue(StringUtil.fuzzyMatch("Alice", "ALCIE", 2));
+        assertFalse(StringUtil.fuzzyMatch("Alice", "Alicia", 0));
+        assertFalse(StringUtil.fuzzyMatch("Alice", "Bernice", 2));
+    }
+
+    @Test
+    public void fuzzyMatch_preparedKeyword_sameResultAsUnprepared() {
+        EditDistanceMatcher keyword = new EditDistanceMatcher("alcie");
+        for (String source : new String[] {"alice", "alicia", "al", "alcie", "bob"}) {
+            assertEquals(StringUtil.fuzzyMatch(source, "alcie", 2), StringUtil.fuzzyMatch(source, keyword, 2));
+        }
+    }
+
     @Test
     public void getDetails_exceptionGiven() {
         assertTrue(StringUtil.getDetails(new FileNotFoundException("file not found"))
@@ -0,0 +1,102 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class LiveSearchTest {
+
+    // the test thread acts as the application thread, and runs the tasks handed to it by the live search
+    private final BlockingQueue<Runnable> applicationTasks = new LinkedBlockingQueue<>();
+    private Model model;
+    private LiveSearch liveSearch;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        liveSearch = new LiveSearch(model, applicationTasks::add, 0);
+    }
+
+    @Test
+    public void update_findCommand_showsMatchingPersons() throws Exception {
+        liveSearch.update("find benson daniel");
+        takeApplicationTask().run();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_filterCommand_showsMatchingPersons() throws Exception {
+        liveSearch.update("filter owesMoney");
+        takeApplicationTask().run();
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_shownPersonEdited_personStillShown() throws Exception {
+        liveSearch.update("filter owesMoney");
+        takeApplicationTask().run();
+
+        Person pinnedBenson = new PersonBuilder(BENSON).withPinned(true).build();
+        model.setPerson(BENSON, pinnedBenson);
+        assertEquals(List.of(pinnedBenson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_newerCommandText_staleResultsDiscarded() throws Exception {
+        liveSearch.update("find alice");
+        Runnable staleResults = takeApplicationTask();
+        liveSearch.update("find carl");
+
+        staleResults.run();
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+
+        takeApplicationTask().run();
+        assertEquals(List.of(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_notSearchCommand_showsAllPersonsAgain() throws Exception {
+        liveSearch.update("find alice");
+        takeApplicationTask().run();
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+
+        liveSearch.update("find");
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+        assertNull(applicationTasks.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void stop_resultsShown_leavesPersonsShown() throws Exception {
+        liveSearch.update("find alice");
+        takeApplicationTask().run();
+
+        liveSearch.stop();
+        liveSearch.update("");
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    private Runnable takeApplicationTask() throws InterruptedException {
+        Runnable task = applicationTasks.poll(5, TimeUnit.SECONDS);
+        assertNotNull(task);
+        return task;
+    }
+}
@@ -7,14 +7,17 @@ import static seedu.address.logic.commands.CommandTestUtil.INVALID_FILE_TYPE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_FILEPATH_CSV;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_FILEPATH_JSON;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -26,8 +29,13 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SortOrder;
+import seedu.address.storage.JournalAddressBookStorage;
 
 public class ImportCommandTest {
+    @TempDir
+    public Path testFolder;
+
     private static Path validJsonPath;
     private static Path validCsvPath;
     private static Path invalidPath;
@@ -60,6 +68,21 @@ public class ImportCommandTest {
                 commandResult.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_jsonFileWithJournal_journaledChangesImported() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        ModelStubAcceptingPath modelStub = new ModelStubAcceptingPath();
+
+        new ImportCommand(filePath).execute(modelStub);
+
+        assertEquals(addressBook, new AddressBook(modelStub.addressBookSet));
+    }
+
     @Test
     public void execute_pathAcceptedByModel_importCsvSuccessful() throws Exception {
         ModelStub modelStub = new ModelStubAcceptingPath();
@@ -149,6 +172,16 @@ public class ImportCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -175,7 +208,22 @@ public class ImportCommandTest {
         }
 
         @Override
-        public void sortFilteredPersonList(Comparator<Person> comparator) {
+        public void updateFilteredPersonListByTags(List<String> tagNames) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByRank(List<Person> rankedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPersonList(SortOrder sortOrder) {
             throw new AssertionError("This method should not be called.");
         };
 
@@ -214,6 +262,7 @@ public class ImportCommandTest {
      */
     private class ModelStubAcceptingPath extends ModelStub {
         final ArrayList<Person> personsAdded = new ArrayList<>();
+        private ReadOnlyAddressBook addressBookSet;
 
         @Override
         public boolean hasPerson(Person person) {
@@ -239,7 +288,7 @@ public class ImportCommandTest {
 
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
-            return;
+            addressBookSet = newData;
         }
 
         @Override
@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.LogEntry;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code LogsCommand}.
+ */
+public class LogsCommandTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 5);
+    private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+
+    private static final LogEntry MONDAY_CALL = new LogEntry("monday call", "call", MONDAY.atTime(9, 0));
+    private static final LogEntry TUESDAY_MEETING = new LogEntry("tuesday meeting", "meeting", TUESDAY.atTime(9, 0));
+    private static final LogEntry TUESDAY_CALL = new LogEntry("tuesday call", "call", TUESDAY.atTime(17, 0));
+
+    private final Person alice = new PersonBuilder(ALICE).withLogs(TUESDAY_CALL, MONDAY_CALL).build();
+    private final Person benson = new PersonBuilder(BENSON).withLogs(TUESDAY_MEETING).build();
+    private final Model model = new ModelManager(new AddressBookBuilder().withPerson(alice).withPerson(benson)
+            .withPerson(CARL).build(), new UserPrefs());
+
+    @Test
+    public void execute_interactionsInRange_loggedPersonsListed() throws Exception {
+        CommandResult result = new LogsCommand(MONDAY, TUESDAY, Optional.empty()).execute(model);
+
+        assertEquals(String.format(LogsCommand.MESSAGE_SUCCESS, 3, 2, MONDAY, TUESDAY)
+                + "\n" + MONDAY_CALL + " - " + alice.getName()
+                + "\n" + TUESDAY_MEETING + " - " + benson.getName()
+                + "\n" + TUESDAY_CALL + " - " + alice.getName(), result.getFeedbackToUser());
+        assertEquals(List.of(alice, benson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_typeGiven_onlyInteractionsOfTypeListed() throws Exception {
+        CommandResult result = new LogsCommand(TUESDAY, TUESDAY, Optional.of("CALL")).execute(model);
+
+        assertEquals(String.format(LogsCommand.MESSAGE_SUCCESS, 1, 1, TUESDAY, TUESDAY)
+                + "\n" + TUESDAY_CALL + " - " + alice.getName(), result.getFeedbackToUser());
+        assertEquals(List.of(alice), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noInteractionsInRange_noPersonListed() throws Exception {
+        LocalDate sunday = MONDAY.minusDays(1);
+        CommandResult result = new LogsCommand(sunday, sunday, Optional.empty()).execute(model);
+
+        assertEquals(String.format(LogsCommand.MESSAGE_SUCCESS, 0, 0, sunday, sunday), result.getFeedbackToUser());
+        assertEquals(List.of(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_startAfterEnd_throwsCommandException() {
+        assertCommandFailure(new LogsCommand(TUESDAY, MONDAY, Optional.empty()), model,
+                LogsCommand.MESSAGE_INVALID_RANGE);
+    }
+
+    @Test
+    public void execute_manyInteractions_firstInteractionsListed() throws Exception {
+        LogEntry[] entries = new LogEntry[LogsCommand.MAX_LISTED_INTERACTIONS + 2];
+        for (int i = 0; i < entries.length; i++) {
+            entries[entries.length - 1 - i] = new LogEntry("call " + i, "call", MONDAY.atTime(10, i));
+        }
+        Person carl = new PersonBuilder(CARL).withLogs(entries).build();
+        model.setPerson(CARL, carl);
+
+        // the call of alice and the first 9 calls of carl are listed
+        String message = new LogsCommand(MONDAY, MONDAY, Optional.empty()).execute(model).getFeedbackToUser();
+        assertTrue(message.startsWith(String.format(LogsCommand.MESSAGE_SUCCESS, 13, 2, MONDAY, MONDAY)));
+        assertTrue(message.contains(entries[3] + " - " + carl.getName()));
+        assertFalse(message.contains(entries[2].toString()));
+        assertTrue(message.endsWith("\n...and 3 more"));
+    }
+
+    @Test
+    public void execute_listedPersonPinned_personStillListed() throws Exception {
+        new LogsCommand(MONDAY, MONDAY, Optional.empty()).execute(model);
+        assertEquals(List.of(alice), model.getFilteredPersonList());
+
+        new PinCommand(INDEX_FIRST_PERSON).execute(model);
+        assertEquals(List.of(new PersonBuilder(alice).withPinned(true).build()), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        LogsCommand command = new LogsCommand(MONDAY, TUESDAY, Optional.empty());
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new LogsCommand(MONDAY, TUESDAY, Optional.empty())));
+
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+        assertFalse(command.equals(new LogsCommand(TUESDAY, TUESDAY, Optional.empty())));
+        assertFalse(command.equals(new LogsCommand(MONDAY, MONDAY, Optional.empty())));
+        assertFalse(command.equals(new LogsCommand(MONDAY, TUESDAY, Optional.of("call"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        LogsCommand command = new LogsCommand(MONDAY, TUESDAY, Optional.of("call"));
+        String expected = LogsCommand.class.getCanonicalName() + "{from=" + MONDAY + ", to=" + TUESDAY
+                + ", type=" + Optional.of("call") + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.LogEntry;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+
+    private final Person alice = new PersonBuilder(ALICE).withNote("Catering vendor for the gala dinner and events")
+            .withLogs(new LogEntry("Asked for a quote", "", LocalDateTime.of(2026, 10, 5, 9, 0))).build();
+    private final Person benson = new PersonBuilder(BENSON).withNote("Catering, catering and more catering").build();
+    private final Person carl = new PersonBuilder(CARL).withNote("Booked the venue").build();
+    private final Model model = new ModelManager(new AddressBookBuilder().withPerson(alice).withPerson(benson)
+            .withPerson(carl).build(), new UserPrefs());
+
+    @Test
+    public void execute_wordsFound_personsListedMostRelevantFirst() {
+        CommandResult result = new SearchCommand("catering").execute(model);
+
+        assertEquals(String.format(SearchCommand.MESSAGE_SUCCESS, 2) + "\n1. " + benson.getName()
+                + "\n2. " + alice.getName(), result.getFeedbackToUser());
+        assertEquals(List.of(benson, alice), model.getFilteredPersonList());
+
+        // the ranking lasts until the list is filtered again
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(alice, benson, carl), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noWordsFound_noPersonListed() {
+        CommandResult result = new SearchCommand("photographer").execute(model);
+
+        assertEquals(String.format(SearchCommand.MESSAGE_SUCCESS, 0), result.getFeedbackToUser());
+        assertEquals(List.of(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_listedPersonPinned_personStillListedFirst() throws Exception {
+        new SearchCommand("quote venue").execute(model);
+        assertEquals(2, model.getFilteredPersonList().size());
+        Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+
+        new PinCommand(INDEX_SECOND_PERSON).execute(model);
+        assertEquals(new PersonBuilder(secondPerson).withPinned(true).build(), model.getFilteredPersonList().get(0));
+        assertEquals(2, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void equals() {
+        SearchCommand command = new SearchCommand("catering");
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new SearchCommand("catering")));
+
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+        assertFalse(command.equals(new SearchCommand("quote")));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SearchCommand command = new SearchCommand("catering");
+        assertEquals(SearchCommand.class.getCanonicalName() + "{query=catering}", command.toString());
+    }
+}
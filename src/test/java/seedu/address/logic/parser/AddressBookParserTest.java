@@ -22,7 +22,9 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.LogsCommand;
 import seedu.address.logic.commands.NoteCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -94,6 +96,18 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(NoteCommand.COMMAND_WORD + " 3 note/") instanceof NoteCommand);
     }
 
+    @Test
+    public void parseCommand_logs() throws Exception {
+        assertTrue(parser.parseCommand(LogsCommand.COMMAND_WORD + " from/2026-10-01 to/2026-10-07")
+                instanceof LogsCommand);
+    }
+
+    @Test
+    public void parseCommand_search() throws Exception {
+        assertEquals(new SearchCommand("catering quote"),
+                parser.parseCommand(SearchCommand.COMMAND_WORD + " catering quote"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.LogsCommand;
+
+public class LogsCommandParserTest {
+
+    private static final LocalDate FIRST_OCTOBER = LocalDate.of(2026, 10, 1);
+    private static final LocalDate SEVENTH_OCTOBER = LocalDate.of(2026, 10, 7);
+
+    private LogsCommandParser parser = new LogsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsLogsCommand() {
+        assertParseSuccess(parser, " from/2026-10-01 to/2026-10-07",
+                new LogsCommand(FIRST_OCTOBER, SEVENTH_OCTOBER, Optional.empty()));
+        assertParseSuccess(parser, " to/2026-10-07  from/2026-10-01 t/call ",
+                new LogsCommand(FIRST_OCTOBER, SEVENTH_OCTOBER, Optional.of("call")));
+        assertParseSuccess(parser, " from/2026-10-01 to/2026-10-01",
+                new LogsCommand(FIRST_OCTOBER, FIRST_OCTOBER, Optional.empty()));
+    }
+
+    @Test
+    public void parse_missingDates_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, LogsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " from/2026-10-01", expectedMessage);
+        assertParseFailure(parser, " to/2026-10-07", expectedMessage);
+        assertParseFailure(parser, " last week from/2026-10-01 to/2026-10-07", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidDates_failure() {
+        assertParseFailure(parser, " from/2026-10-1 to/2026-10-07", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " from/2026-02-30 to/2026-10-07", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " from/01/10/2026 to/2026-10-07", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " from/2026-10-07 to/2026-10-01", LogsCommand.MESSAGE_INVALID_RANGE);
+    }
+
+    @Test
+    public void parse_emptyType_failure() {
+        assertParseFailure(parser, " from/2026-10-01 to/2026-10-07 t/ ", "Log type cannot be empty");
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.person.Field;
+import seedu.address.model.person.Order;
+import seedu.address.model.person.SortOrder;
+
+public class SortCommandParserTest {
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_noFields_sortsByName() {
+        assertParseSuccess(parser, "", new SortCommand(SortOrder.DEFAULT));
+        assertParseSuccess(parser, " o/desc", new SortCommand(
+                new SortOrder(List.of(new Field("name")), List.of(new Order("desc")))));
+    }
+
+    @Test
+    public void parse_severalFields_ordersPairedByPosition() {
+        SortOrder expectedSortOrder = new SortOrder(List.of(new Field("address"), new Field("name")),
+                List.of(new Order("asc"), new Order("desc")));
+        assertParseSuccess(parser, " f/address o/asc f/name o/desc", new SortCommand(expectedSortOrder));
+
+        // fields without an order are sorted in ascending order
+        expectedSortOrder = new SortOrder(List.of(new Field("email"), new Field("phone")),
+                List.of(new Order("desc"), new Order("asc")));
+        assertParseSuccess(parser, " f/email o/DESC f/phone", new SortCommand(expectedSortOrder));
+
+        // an order applies to the field just before it, not to the field at the same position
+        expectedSortOrder = new SortOrder(List.of(new Field("address"), new Field("name")),
+                List.of(new Order("asc"), new Order("desc")));
+        assertParseSuccess(parser, " f/address f/name o/desc", new SortCommand(expectedSortOrder));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, " f/name o/asc o/desc", SortCommandParser.MESSAGE_TOO_MANY_ORDERS);
+        assertParseFailure(parser, " f/name o/asc f/address o/asc o/desc f/phone",
+                SortCommandParser.MESSAGE_TOO_MANY_ORDERS);
+        assertParseFailure(parser, " o/desc f/name", SortCommandParser.MESSAGE_TOO_MANY_ORDERS);
+        assertParseFailure(parser, " f/name f/address f/name", SortCommandParser.MESSAGE_DUPLICATE_FIELD);
+        assertParseFailure(parser, " f/birthday", Field.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " f/name o/up", Order.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersistentPersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookChangeTest {
+
+    @Test
+    public void getChangesSince_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AddressBookChange.start().getChangesSince(null));
+    }
+
+    @Test
+    public void getChangesSince_earlierChange_changesInOrder() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookChange savedChange = addressBook.getLastChange().get();
+        addressBook.removePerson(BENSON);
+        addressBook.addPerson(0, BENSON);
+
+        List<AddressBookChange> changes = addressBook.getLastChange().get().getChangesSince(savedChange).get();
+        assertEquals(2, changes.size());
+        assertEquals(1, changes.get(0).getIndex());
+        assertEquals(1, changes.get(0).getRemovedCount());
+        assertEquals(List.of(BENSON), changes.get(1).getAddedPersons());
+        assertEquals(List.of(), savedChange.getChangesSince(savedChange).get());
+    }
+
+    @Test
+    public void getChangesSince_personsReplaced_empty() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookChange savedChange = addressBook.getLastChange().get();
+        addressBook.resetData(new AddressBook());
+        addressBook.addPerson(ALICE);
+        assertFalse(addressBook.getLastChange().get().getChangesSince(savedChange).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_chainTooLong_empty() {
+        AddressBookChange savedChange = AddressBookChange.start();
+        AddressBookChange change = savedChange;
+        for (int i = 0; i <= AddressBookChange.MAX_CHAIN_LENGTH; i++) {
+            change = change.then(0, 0, List.of());
+        }
+        assertFalse(change.getChangesSince(savedChange).isPresent());
+    }
+
+    @Test
+    public void applyTo_recordedChanges_sameAsAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        PersistentPersonList persons = PersistentPersonList.of(addressBook.getPersonList());
+        AddressBookChange savedChange = addressBook.getLastChange().get();
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(CARL, new PersonBuilder(CARL).withNote("likes tea").build());
+        addressBook.addPerson(2, ALICE);
+
+        for (AddressBookChange change : addressBook.getLastChange().get().getChangesSince(savedChange).get()) {
+            persons = change.applyTo(persons);
+        }
+        assertEquals(addressBook.getPersonList(), persons.toList());
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -78,6 +79,48 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void createSnapshot_laterChanges_snapshotUnchanged() {
+        addressBook.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = addressBook.createSnapshot();
+        addressBook.addPerson(BOB);
+        addressBook.removePerson(ALICE);
+        assertEquals(Collections.singletonList(ALICE), snapshot.getPersonList());
+    }
+
+    @Test
+    public void resetData_withSnapshot_restoresSnapshottedData() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        ReadOnlyAddressBook snapshot = typicalAddressBook.createSnapshot();
+        typicalAddressBook.removePerson(ALICE);
+        typicalAddressBook.resetData(snapshot);
+        assertEquals(getTypicalAddressBook(), typicalAddressBook);
+        assertTrue(typicalAddressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void resetData_withAddressBook_laterChangesToSourceNotReflected() {
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.resetData(newData);
+        newData.removePerson(ALICE);
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void getModificationCount_changesOnlyWhenModified() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(initialCount, addressBook.getModificationCount());
+
+        addressBook.addPerson(ALICE);
+        long countAfterAdd = addressBook.getModificationCount();
+        assertFalse(countAfterAdd == initialCount);
+        addressBook.removePerson(ALICE);
+        assertFalse(addressBook.getModificationCount() == countAfterAdd);
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -7,16 +7,22 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.RefiningPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +99,118 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void undoAddressBook_deletedPerson_restoresPersonAtOriginalPosition() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.saveAddressBookState();
+        model.deletePerson(BENSON);
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_multipleChangesSinceSave_revertsAllChanges() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.saveAddressBookState();
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withNote("met at conference").build());
+        model.deletePerson(CARL);
+        model.addPerson(new PersonBuilder().withName("Zed").build());
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_changeAfterUndoWithoutSave_changeUndoneOnItsOwn() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.saveAddressBookState();
+        model.deletePerson(ALICE);
+        model.undoAddressBook();
+
+        model.deletePerson(BENSON);
+        assertTrue(model.canUndoAddressBook());
+        assertFalse(model.canRedoAddressBook());
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void redoAddressBook_afterUndo_reappliesChanges() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.saveAddressBookState();
+        model.deletePerson(ALICE);
+        model.saveAddressBookState();
+        model.setAddressBook(new AddressBook());
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        expectedAddressBook.removePerson(ALICE);
+
+        model.undoAddressBook();
+        assertEquals(expectedAddressBook, model.getAddressBook());
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+
+        model.redoAddressBook();
+        assertEquals(expectedAddressBook, model.getAddressBook());
+        model.redoAddressBook();
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertFalse(model.canRedoAddressBook());
+    }
+
+    @Test
+    public void updateFilteredPersonListByTags_laterEdit_filterFollowsTags() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.updateFilteredPersonListByTags(Arrays.asList("OWESMONEY", "colleagues"));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withTags("enemies").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_refiningPredicate_onlyShownPersonsTested() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.updateFilteredPersonList(person -> !person.equals(BENSON));
+
+        int[] testCount = {0};
+        RefiningPredicate refiningPredicate = new RefiningPredicate() {
+            @Override
+            public boolean test(Person person) {
+                testCount[0]++;
+                return person.equals(CARL);
+            }
+
+            @Override
+            public boolean refines(Predicate<? super Person> other) {
+                return true;
+            }
+        };
+        modelManager.updateFilteredPersonList(refiningPredicate);
+        assertEquals(Arrays.asList(CARL), modelManager.getFilteredPersonList());
+        assertEquals(2, testCount[0]);
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_narrowedKeywords_sameAsNewFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.updateFilteredPersonListByName(Arrays.asList("a"));
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonListByName(Arrays.asList("al"));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        // persons edited after the refinement are tested as usual
+        Person editedBenson = new PersonBuilder(BENSON).withName("Albert Meier").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedBenson, ALICE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
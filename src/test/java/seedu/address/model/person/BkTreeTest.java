@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class BkTreeTest {
+
+    private static final List<String> WORDS = List.of("alice", "alicia", "alex", "bob", "bobby", "benson", "carl",
+            "karl", "carla", "daniel", "danielle", "elle", "ella", "fiona", "george", "georg", "kurz", "kunz", "meier",
+            "meyer", "pauline");
+    private static final List<String> QUERIES = List.of("alice", "alcie", "bob", "carl", "kurtz", "meir", "xyz",
+            "danial", "e", "");
+
+    private final BkTree<String> tree = new BkTree<>();
+
+    @Test
+    public void search_emptyTree_returnsEmptyList() {
+        assertEquals(List.of(), tree.search("alice", 2));
+    }
+
+    @Test
+    public void search_variousQueries_sameAsComparingEveryKey() {
+        WORDS.forEach(word -> tree.add(word, word));
+        for (String query : QUERIES) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                assertSearchResult(WORDS, query, maxDistance);
+            }
+        }
+    }
+
+    @Test
+    public void search_severalValuesUnderSameKey_returnsAll() {
+        tree.add("tan", "Tan");
+        tree.add("tan", "TAN");
+        assertEquals(Set.of("Tan", "TAN"), new HashSet<>(tree.search("tan", 0)));
+    }
+
+    @Test
+    public void search_afterRemovals_sameAsComparingEveryRemainingKey() {
+        WORDS.forEach(word -> tree.add(word, word));
+        List<String> remainingWords = new ArrayList<>(WORDS);
+        // removing most words also rebuilds the tree
+        for (int i = 0; i < WORDS.size(); i += 2) {
+            tree.remove(WORDS.get(i), WORDS.get(i));
+            remainingWords.remove(WORDS.get(i));
+            for (String query : QUERIES) {
+                assertSearchResult(remainingWords, query, 2);
+            }
+        }
+        for (int i = 1; i < WORDS.size(); i += 2) {
+            tree.remove(WORDS.get(i), WORDS.get(i));
+            remainingWords.remove(WORDS.get(i));
+            for (String query : QUERIES) {
+                assertSearchResult(remainingWords, query, 2);
+            }
+        }
+
+        // removed keys can be added again
+        tree.add("alice", "alice");
+        assertEquals(List.of("alice"), tree.search("alice", 0));
+    }
+
+    @Test
+    public void remove_keyNotInTree_nothingRemoved() {
+        tree.add("alice", "alice");
+        tree.remove("bob", "bob");
+        tree.remove("alice", "other");
+        assertEquals(List.of("alice"), tree.search("alice", 0));
+    }
+
+    private void assertSearchResult(List<String> words, String query, int maxDistance) {
+        Set<String> expected = new HashSet<>();
+        for (String word : words) {
+            if (StringUtil.levenshteinDistance(word, query) <= maxDistance) {
+                expected.add(word);
+            }
+        }
+        List<String> result = tree.search(query, maxDistance);
+        assertEquals(expected, new HashSet<>(result), "query: " + query + ", max distance: " + maxDistance);
+        assertEquals(expected.size(), result.size());
+    }
+}
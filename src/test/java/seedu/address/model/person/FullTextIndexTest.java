@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class FullTextIndexTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2026, 10, 5, 9, 0);
+
+    @Test
+    public void tokenize() {
+        assertEquals(List.of("called", "about", "the", "catering", "quote", "2"),
+                FullTextIndex.tokenize("Called about the CATERING quote (#2)!"));
+        assertEquals(List.of("café", "über"), FullTextIndex.tokenize("  Café, Über "));
+        assertEquals(List.of(), FullTextIndex.tokenize(" ... "));
+    }
+
+    @Test
+    public void search_notesAndLogs_rankedByRelevance() {
+        Person alice = withNoteAndLogs(ALICE, "Catering vendor", "Sent the catering quote", "Catering menu agreed");
+        Person benson = withNoteAndLogs(BENSON, "Photographer for the gala dinner and other events",
+                "Quote for catering");
+        Person carl = withNoteAndLogs(CARL, "", "Booked the venue");
+        FullTextIndex index = FullTextIndex.of(List.of(alice, benson, carl));
+
+        // alice uses "catering" more often, in shorter text
+        assertEquals(List.of(alice, benson), getPersons(index, "CATERING"));
+        assertEquals(List.of(carl), getPersons(index, "venue"));
+        assertEquals(List.of(), getPersons(index, "cater"));
+        assertEquals(List.of(), getPersons(index, ""));
+
+        // a word used by fewer persons counts for more
+        List<FullTextIndex.Result> results = index.search("venue catering");
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).getScore() >= results.get(1).getScore());
+        assertEquals(index.search("catering catering").get(0).getScore(), index.search("catering").get(0).getScore());
+    }
+
+    @Test
+    public void setPerson_noteAndLogsChanged_indexUpdated() {
+        Person alice = withNoteAndLogs(ALICE, "Catering vendor", "Sent the quote");
+        FullTextIndex index = FullTextIndex.of(List.of(alice));
+
+        Person loggedAlice = new Person(alice.getName(), alice.getPhone(), alice.getTelegramHandle(), alice.getEmail(),
+                alice.getAddress(), alice.getTags(), alice.getNote(),
+                alice.getLogs().addLogEntry(new LogEntry("Booked the venue", "", TIMESTAMP)), alice.isPinned());
+        index.setPerson(alice, loggedAlice);
+        assertEquals(List.of(loggedAlice), getPersons(index, "venue"));
+        assertEquals(List.of(loggedAlice), getPersons(index, "quote"));
+
+        Person editedAlice = withNoteAndLogs(loggedAlice, "Florist", "Ordered flowers");
+        index.setPerson(loggedAlice, editedAlice);
+        assertEquals(List.of(), getPersons(index, "catering venue quote"));
+        assertEquals(List.of(editedAlice), getPersons(index, "florist flowers"));
+
+        index.remove(editedAlice);
+        assertEquals(List.of(), getPersons(index, "florist flowers"));
+    }
+
+    private static List<Person> getPersons(FullTextIndex index, String query) {
+        return index.search(query).stream().map(FullTextIndex.Result::getPerson).collect(Collectors.toList());
+    }
+
+    private static Person withNoteAndLogs(Person person, String note, String... messages) {
+        InteractionLog logs = new InteractionLog();
+        for (String message : messages) {
+            logs = logs.addLogEntry(new LogEntry(message, "", TIMESTAMP));
+        }
+        return new Person(person.getName(), person.getPhone(), person.getTelegramHandle(), person.getEmail(),
+                person.getAddress(), person.getTags(), new Note(note), logs, person.isPinned());
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class InteractionLogTest {
+
+    private static final LogEntry FIRST = new LogEntry("first", "call", LocalDateTime.of(2024, 1, 1, 9, 0));
+    private static final LogEntry SECOND = new LogEntry("second", "", LocalDateTime.of(2024, 1, 2, 9, 0));
+    private static final LogEntry THIRD = new LogEntry("third", "email", LocalDateTime.of(2024, 1, 3, 9, 0));
+
+    @Test
+    public void addLogEntry_newestFirst() {
+        InteractionLog log = new InteractionLog().addLogEntry(FIRST).addLogEntry(SECOND).addLogEntry(THIRD);
+
+        assertEquals(List.of(THIRD, SECOND, FIRST), log.getLogs());
+        assertEquals(List.of(THIRD, SECOND, FIRST), new ArrayList<>(log.getLogs()));
+        assertEquals(SECOND, log.getLogs().get(1));
+        assertEquals(3, log.size());
+        assertFalse(log.isEmpty());
+        assertEquals(new InteractionLog(List.of(THIRD, SECOND, FIRST)), log);
+    }
+
+    @Test
+    public void addLogEntry_originalUnchanged() {
+        InteractionLog original = new InteractionLog(List.of(SECOND, FIRST));
+        InteractionLog added = original.addLogEntry(THIRD);
+
+        assertEquals(List.of(SECOND, FIRST), original.getLogs());
+        assertEquals(List.of(THIRD, SECOND, FIRST), added.getLogs());
+        assertNotEquals(original, added);
+    }
+
+    @Test
+    public void addLogEntry_severalVersionsAddedTo_versionsIndependent() {
+        InteractionLog base = new InteractionLog().addLogEntry(FIRST);
+        InteractionLog withSecond = base.addLogEntry(SECOND);
+        InteractionLog withThird = base.addLogEntry(THIRD);
+
+        assertEquals(List.of(FIRST), base.getLogs());
+        assertEquals(List.of(SECOND, FIRST), withSecond.getLogs());
+        assertEquals(List.of(THIRD, FIRST), withThird.getLogs());
+        assertEquals(List.of(FIRST, SECOND, FIRST), withSecond.addLogEntry(FIRST).getLogs());
+    }
+
+    @Test
+    public void addLogEntry_manyEntries_allEntriesKept() {
+        List<LogEntry> entries = new ArrayList<>();
+        InteractionLog log = new InteractionLog();
+        for (int i = 0; i < 5000; i++) {
+            // long and non-ASCII messages, and timestamps with nanoseconds
+            LogEntry entry = new LogEntry("訪問 " + i + "x".repeat(i % 100), i % 3 == 0 ? "" : "type" + i % 3,
+                    LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i).plusNanos(i));
+            entries.add(0, entry);
+            log = log.addLogEntry(entry);
+        }
+
+        assertEquals(entries, log.getLogs());
+        assertEquals(entries.get(4321), log.getLogs().get(4321));
+        assertEquals(new InteractionLog(entries), log);
+        assertEquals(entries.hashCode(), log.hashCode());
+    }
+
+    @Test
+    public void getLatestTimestamp() {
+        assertEquals(Optional.empty(), new InteractionLog().getLatestTimestamp());
+        assertEquals(Optional.of(THIRD.getTimestamp()),
+                new InteractionLog().addLogEntry(FIRST).addLogEntry(THIRD).addLogEntry(SECOND).getLatestTimestamp());
+        assertEquals(Optional.of(THIRD.getTimestamp()), new InteractionLog(List.of(FIRST, THIRD, SECOND))
+                .getLatestTimestamp());
+    }
+
+    @Test
+    public void equals() {
+        InteractionLog log = new InteractionLog(List.of(SECOND, FIRST));
+
+        assertTrue(log.equals(log));
+        assertTrue(log.equals(new InteractionLog().addLogEntry(FIRST).addLogEntry(SECOND)));
+        assertEquals(log.hashCode(), new InteractionLog(List.of(SECOND, FIRST)).hashCode());
+        assertTrue(new InteractionLog().equals(new InteractionLog(null)));
+
+        assertFalse(log.equals(null));
+        assertFalse(log.equals(new InteractionLog(List.of(FIRST, SECOND))));
+        assertFalse(log.equals(log.addLogEntry(THIRD)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("No interaction logs", new InteractionLog().toString());
+        InteractionLog log = new InteractionLog(List.of(SECOND, FIRST));
+        assertEquals(SECOND + "\n" + FIRST, log.toString());
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+public class LogChunkTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2026, 10, 5, 9, 0);
+
+    @Test
+    public void tryAppend_longMessages_appendedToSameChunk() {
+        LogChunk chunk = new LogChunk(null, 0);
+        LogEntry longEntry = new LogEntry("x".repeat(10_000), "call", TIMESTAMP);
+        LogEntry shortEntry = new LogEntry("short", "", TIMESTAMP.plusSeconds(1));
+
+        assertTrue(append(chunk, 0, shortEntry));
+        assertTrue(append(chunk, 1, longEntry));
+        assertTrue(append(chunk, 2, shortEntry));
+        assertEquals(shortEntry, chunk.get(0));
+        assertEquals(longEntry, chunk.get(1));
+        assertEquals(shortEntry, chunk.get(2));
+    }
+
+    @Test
+    public void tryAppend_chunkFull_notAppended() {
+        LogChunk chunk = new LogChunk(null, 0);
+        for (int i = 0; i < LogChunk.MAX_CAPACITY; i++) {
+            assertTrue(append(chunk, i, new LogEntry("entry " + i, "", TIMESTAMP.plusSeconds(i))));
+        }
+
+        assertFalse(append(chunk, LogChunk.MAX_CAPACITY, new LogEntry("one more", "", TIMESTAMP)));
+        assertEquals(new LogEntry("entry 1000", "", TIMESTAMP.plusSeconds(1000)), chunk.get(1000));
+    }
+
+    @Test
+    public void tryAppend_entryAppendedAfterSameCount_notAppended() {
+        LogChunk chunk = new LogChunk(null, 0);
+        LogEntry first = new LogEntry("first", "", TIMESTAMP);
+        assertTrue(append(chunk, 0, first));
+        assertTrue(append(chunk, 1, new LogEntry("second", "", TIMESTAMP)));
+
+        // another version holding only the first entry cannot append to the chunk
+        assertFalse(append(chunk, 1, new LogEntry("other second", "", TIMESTAMP)));
+        assertEquals(first, chunk.get(0));
+    }
+
+    @Test
+    public void isSameEntry_typesLoggedInDifferentOrder() {
+        LogChunk chunk = new LogChunk(null, 0);
+        LogChunk otherChunk = new LogChunk(null, 0);
+        append(chunk, 0, new LogEntry("meeting", "meeting", TIMESTAMP));
+        append(chunk, 1, new LogEntry("call", "call", TIMESTAMP));
+        append(otherChunk, 0, new LogEntry("call", "call", TIMESTAMP));
+        append(otherChunk, 1, new LogEntry("email", "email", TIMESTAMP));
+
+        assertTrue(chunk.isSameEntry(1, otherChunk, 0));
+        assertFalse(chunk.isSameEntry(0, otherChunk, 1));
+    }
+
+    private static boolean append(LogChunk chunk, int count, LogEntry entry) {
+        return chunk.tryAppend(count, entry, LogChunk.encodeMessage(entry));
+    }
+}
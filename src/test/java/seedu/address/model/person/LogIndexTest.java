@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class LogIndexTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 10, 5, 9, 0);
+
+    private static final LogEntry MONDAY_CALL = new LogEntry("monday call", "call", MONDAY);
+    private static final LogEntry TUESDAY_MEETING = new LogEntry("tuesday meeting", "meeting", MONDAY.plusDays(1));
+    private static final LogEntry WEDNESDAY_CALL = new LogEntry("wednesday call", "call", MONDAY.plusDays(2));
+
+    @Test
+    public void getInteractionsBetween_oldestFirstWithinRange() {
+        Person alice = withLogs(ALICE, new InteractionLog(List.of(WEDNESDAY_CALL, MONDAY_CALL)));
+        Person benson = withLogs(BENSON, new InteractionLog(List.of(TUESDAY_MEETING)));
+        LogIndex index = LogIndex.of(List.of(alice, benson));
+
+        assertEquals(3, index.size());
+        assertEquals(List.of(MONDAY_CALL, TUESDAY_MEETING, WEDNESDAY_CALL),
+                getEntries(index, MONDAY, MONDAY.plusDays(3)));
+        assertEquals(List.of(alice, benson, alice), index.getInteractionsBetween(MONDAY, MONDAY.plusDays(3)).stream()
+                .map(LogIndex.Interaction::getPerson).collect(Collectors.toList()));
+
+        // the start is inclusive and the end is exclusive
+        assertEquals(List.of(MONDAY_CALL, TUESDAY_MEETING), getEntries(index, MONDAY, MONDAY.plusDays(2)));
+        assertEquals(List.of(TUESDAY_MEETING), getEntries(index, MONDAY.plusNanos(1), MONDAY.plusDays(2)));
+        assertEquals(List.of(), getEntries(index, MONDAY.plusDays(3), MONDAY.plusDays(4)));
+        assertEquals(List.of(), getEntries(index, MONDAY.plusDays(3), MONDAY));
+    }
+
+    @Test
+    public void getInteractionsBetween_typeGiven_onlyInteractionsOfTypeIgnoringCase() {
+        Person alice = withLogs(ALICE, new InteractionLog(List.of(WEDNESDAY_CALL, MONDAY_CALL)));
+        Person benson = withLogs(BENSON, new InteractionLog(List.of(TUESDAY_MEETING)));
+        LogIndex index = LogIndex.of(List.of(alice, benson));
+
+        assertEquals(List.of(MONDAY_CALL, WEDNESDAY_CALL), getEntries(index, MONDAY, MONDAY.plusDays(3), "CALL"));
+        assertEquals(List.of(WEDNESDAY_CALL), getEntries(index, MONDAY.plusDays(1), MONDAY.plusDays(3), "call"));
+        assertEquals(List.of(), getEntries(index, MONDAY, MONDAY.plusDays(3), "email"));
+
+        index.remove(benson);
+        assertEquals(List.of(), getEntries(index, MONDAY, MONDAY.plusDays(3), "meeting"));
+        index.setPerson(alice, withLogs(alice, alice.getLogs().addLogEntry(
+                new LogEntry("thursday meeting", "Meeting", MONDAY.plusDays(3)))));
+        assertEquals(List.of(new LogEntry("thursday meeting", "Meeting", MONDAY.plusDays(3))),
+                getEntries(index, MONDAY, MONDAY.plusDays(4), "meeting"));
+    }
+
+    @Test
+    public void setPerson_entriesLogged_newEntriesIndexed() {
+        Person alice = withLogs(ALICE, new InteractionLog(List.of(MONDAY_CALL)));
+        LogIndex index = LogIndex.of(List.of(alice));
+
+        Person loggedAlice = withLogs(alice, alice.getLogs().addLogEntry(TUESDAY_MEETING));
+        index.setPerson(alice, loggedAlice);
+        assertEquals(List.of(MONDAY_CALL, TUESDAY_MEETING), getEntries(index, MONDAY, MONDAY.plusDays(3)));
+        assertEquals(List.of(loggedAlice, loggedAlice), index.getInteractionsBetween(MONDAY, MONDAY.plusDays(3))
+                .stream().map(LogIndex.Interaction::getPerson).collect(Collectors.toList()));
+
+        // logs that do not extend the previous logs are indexed again
+        Person editedAlice = withLogs(loggedAlice, new InteractionLog(List.of(WEDNESDAY_CALL)));
+        index.setPerson(loggedAlice, editedAlice);
+        assertEquals(1, index.size());
+        assertEquals(List.of(WEDNESDAY_CALL), getEntries(index, MONDAY, MONDAY.plusDays(3)));
+    }
+
+    @Test
+    public void remove_person_entriesRemoved() {
+        Person alice = withLogs(ALICE, new InteractionLog(List.of(WEDNESDAY_CALL, MONDAY_CALL)));
+        Person benson = withLogs(BENSON, new InteractionLog(List.of(TUESDAY_MEETING)));
+        LogIndex index = LogIndex.of(List.of(alice, benson));
+
+        index.remove(alice);
+        assertEquals(List.of(TUESDAY_MEETING), getEntries(index, MONDAY, MONDAY.plusDays(3)));
+    }
+
+    private static List<LogEntry> getEntries(LogIndex index, LocalDateTime from, LocalDateTime to) {
+        return index.getInteractionsBetween(from, to).stream()
+                .map(LogIndex.Interaction::getEntry)
+                .collect(Collectors.toList());
+    }
+
+    private static List<LogEntry> getEntries(LogIndex index, LocalDateTime from, LocalDateTime to, String type) {
+        return index.getInteractionsBetween(from, to, type).stream()
+                .map(LogIndex.Interaction::getEntry)
+                .collect(Collectors.toList());
+    }
+
+    private static Person withLogs(Person person, InteractionLog logs) {
+        return new Person(person.getName(), person.getPhone(), person.getTelegramHandle(), person.getEmail(),
+                person.getAddress(), person.getTags(), person.getNote(), logs, person.isPinned());
+    }
+}
@@ -74,6 +74,26 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void refines() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("j", "Bob"));
+
+        // subset of the keywords, ignoring case -> returns true
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("bob")).refines(predicate));
+
+        // short keyword containing a short keyword -> returns true
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("jo", "bob")).refines(predicate));
+
+        // keyword long enough for fuzzy matching -> returns false
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("joh")).refines(predicate));
+
+        // keyword not implied by any keyword -> returns false
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("bob", "al")).refines(predicate));
+
+        // other types of predicate -> returns false
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("bob")).refines(unused -> true));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
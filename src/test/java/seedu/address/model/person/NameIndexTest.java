@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameIndexTest {
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final NameIndex nameIndex = uniquePersonList.getNameIndex();
+
+    @Test
+    public void getIdentityKeysMatchingAny_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.getIdentityKeysMatchingAny(null));
+    }
+
+    @Test
+    public void getIdentityKeysMatchingAny_variousKeywords_sameAsPredicate() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(new PersonBuilder().withName("Zoë Ångström").withPhone("81111111").build());
+        persons.add(new PersonBuilder().withName("Anna Anna-Marie").withPhone("82222222").build());
+        uniquePersonList.setPersons(persons);
+
+        List<String> keywords = List.of("a", "AL", "ali", "Alice", "aLIce", "alcie", "pauline", "ul", "Kurz",
+                "kunz", "meyer", "MEIER", "zoë", "ZOË", "ångström", "angstrom", "anna", "Anna-Marie", "marie", "xyz",
+                " ", "");
+        for (String keyword : keywords) {
+            assertSameAsPredicate(persons, List.of(keyword));
+        }
+        assertSameAsPredicate(persons, List.of("kurz", "elle", "kunz"));
+        assertSameAsPredicate(persons, Collections.emptyList());
+    }
+
+    @Test
+    public void getIdentityKeysMatchingAny_afterEditAndRemove_followsList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(BENSON);
+
+        assertEquals(Set.of(editedAlice.getIdentityKey()), nameIndex.getIdentityKeysMatchingAny(List.of("tan")));
+        assertEquals(Collections.emptySet(), nameIndex.getIdentityKeysMatchingAny(List.of("pauline", "meier")));
+    }
+
+    @Test
+    public void getIdentityKeysMatchingAny_sameWordInSeveralNames_wordKeptUntilLastRemoved() {
+        Person aliceTan = new PersonBuilder().withName("Alice Tan").withPhone("81111111").build();
+        Person bobTan = new PersonBuilder().withName("Bob Tan").withPhone("82222222").build();
+        uniquePersonList.add(aliceTan);
+        uniquePersonList.add(bobTan);
+
+        uniquePersonList.remove(aliceTan);
+        assertEquals(Set.of(bobTan.getIdentityKey()), nameIndex.getIdentityKeysMatchingAny(List.of("tan")));
+        uniquePersonList.remove(bobTan);
+        assertEquals(Collections.emptySet(), nameIndex.getIdentityKeysMatchingAny(List.of("tan")));
+    }
+
+    @Test
+    public void createNamePredicate_laterChanges_followsList() {
+        uniquePersonList.add(ALICE);
+        Predicate<Person> predicate = nameIndex.createNamePredicate(List.of("Tan"));
+        assertFalse(predicate.test(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertTrue(predicate.test(editedAlice));
+    }
+
+    private void assertSameAsPredicate(List<Person> persons, List<String> keywords) {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+        Set<String> expected = persons.stream()
+                .filter(predicate)
+                .map(Person::getIdentityKey)
+                .collect(Collectors.toSet());
+        assertEquals(expected, nameIndex.getIdentityKeysMatchingAny(keywords), "keywords: " + keywords);
+    }
+}
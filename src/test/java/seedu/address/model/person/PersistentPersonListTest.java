@@ -0,0 +1,140 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentPersonListTest {
+
+    @Test
+    public void empty_hasNoPersons() {
+        assertTrue(PersistentPersonList.empty().isEmpty());
+        assertEquals(Collections.emptyList(), PersistentPersonList.empty().toList());
+    }
+
+    @Test
+    public void of_typicalPersons_preservesOrder() {
+        PersistentPersonList list = PersistentPersonList.of(getTypicalPersons());
+        assertEquals(getTypicalPersons(), list.toList());
+        assertEquals(getTypicalPersons().size(), list.size());
+        assertEquals(getTypicalPersons().get(2), list.get(2));
+    }
+
+    @Test
+    public void add_atIndex_insertsPerson() {
+        PersistentPersonList list = PersistentPersonList.of(Arrays.asList(ALICE, CARL)).add(1, BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), list.toList());
+    }
+
+    @Test
+    public void set_validIndex_replacesPerson() {
+        PersistentPersonList list = PersistentPersonList.of(Arrays.asList(ALICE, BENSON)).set(1, BOB);
+        assertEquals(Arrays.asList(ALICE, BOB), list.toList());
+    }
+
+    @Test
+    public void remove_validIndex_removesPerson() {
+        PersistentPersonList list = PersistentPersonList.of(Arrays.asList(ALICE, BENSON, CARL)).remove(0);
+        assertEquals(Arrays.asList(BENSON, CARL), list.toList());
+        assertTrue(list.remove(0).remove(0).isEmpty());
+    }
+
+    @Test
+    public void updates_originalListUnchanged() {
+        PersistentPersonList original = PersistentPersonList.of(Arrays.asList(ALICE, BENSON));
+        original.add(CARL);
+        original.set(0, BOB);
+        original.remove(1);
+        assertEquals(Arrays.asList(ALICE, BENSON), original.toList());
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentPersonList list = PersistentPersonList.of(Arrays.asList(ALICE, BENSON));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(3, CARL));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentPersonList.empty().remove(0));
+    }
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentPersonList.empty().add(null));
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        List<Person> persons = getTypicalPersons();
+        List<Person> expected = new ArrayList<>();
+        PersistentPersonList list = PersistentPersonList.empty();
+        Random random = new Random(0);
+        for (int i = 0; i < 2000; i++) {
+            Person person = persons.get(random.nextInt(persons.size()));
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, person);
+                list = list.add(index, person);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, person);
+                list = list.set(index, person);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.remove(index);
+            }
+        }
+        assertEquals(expected, list.toList());
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.indexOf(list.getLabel(i)));
+        }
+    }
+
+    @Test
+    public void indexOf_labelsKeptAcrossUpdates() {
+        PersistentPersonList list = PersistentPersonList.of(Arrays.asList(ALICE, BENSON, CARL));
+        long bensonLabel = list.getLabel(1);
+        long carlLabel = list.getLabel(2);
+
+        PersistentPersonList updated = list.remove(0).add(0, BOB).add(0, ALICE).set(3, CARL);
+        assertTrue(updated.hasSameLabelsAs(list));
+        assertEquals(2, updated.indexOf(bensonLabel));
+        assertEquals(3, updated.indexOf(carlLabel));
+        assertEquals(-1, updated.indexOf(bensonLabel + 1));
+        assertEquals(-1, PersistentPersonList.empty().indexOf(0));
+    }
+
+    @Test
+    public void add_noLabelBetweenNeighbours_labelsAssignedAgain() {
+        PersistentPersonList original = PersistentPersonList.of(Arrays.asList(ALICE, CARL));
+        List<Person> expected = new ArrayList<>(original.toList());
+        PersistentPersonList list = original;
+        // each person added between the first two halves the space between their labels
+        for (int i = 0; i < 30; i++) {
+            list = list.add(1, BENSON);
+            expected.add(1, BENSON);
+        }
+
+        assertEquals(expected, list.toList());
+        assertFalse(list.hasSameLabelsAs(original));
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.indexOf(list.getLabel(i)));
+        }
+    }
+}
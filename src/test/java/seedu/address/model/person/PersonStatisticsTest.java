@@ -0,0 +1,88 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonStatisticsTest {
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final PersonStatistics statistics = uniquePersonList.getStatistics();
+
+    @Test
+    public void getStatistics_emptyList_noStatistics() {
+        assertEquals(0, statistics.getPersonCount());
+        assertEquals(List.of(), statistics.getTopTags(3));
+        assertFalse(statistics.getMostCommonEmailDomain().isPresent());
+        assertFalse(statistics.getPersonWithMostLogs().isPresent());
+    }
+
+    @Test
+    public void getStatistics_typicalPersons_countsPersons() {
+        uniquePersonList.setPersons(getTypicalPersons());
+
+        assertEquals(getTypicalPersons().size(), statistics.getPersonCount());
+        assertEquals(List.of("friends", "owesmoney"), statistics.getTopTags(3));
+        assertEquals(3, statistics.getTagCount("friends"));
+        assertEquals(1, statistics.getTagCount("owesmoney"));
+        assertEquals(0, statistics.getTagCount("enemies"));
+        assertEquals(Optional.of("example.com"), statistics.getMostCommonEmailDomain());
+    }
+
+    @Test
+    public void getStatistics_afterEditAndRemove_followsList() {
+        Person loggedAlice = withLogs(ALICE, 2);
+        Person loggedCarl = withLogs(CARL, 1);
+        uniquePersonList.setPersons(Arrays.asList(loggedAlice, BENSON, loggedCarl, DANIEL));
+        assertEquals(Optional.of(loggedAlice), statistics.getPersonWithMostLogs());
+
+        Person editedCarl = withLogs(
+                new PersonBuilder(CARL).withEmail("carl@nus.edu").withTags("colleagues").build(), 3);
+        uniquePersonList.setPerson(loggedCarl, editedCarl);
+        assertEquals(Optional.of(editedCarl), statistics.getPersonWithMostLogs());
+        assertEquals(List.of("friends", "colleagues", "owesmoney"), statistics.getTopTags(3));
+
+        uniquePersonList.remove(editedCarl);
+        uniquePersonList.remove(loggedAlice);
+        assertEquals(2, statistics.getPersonCount());
+        assertEquals(List.of("friends"), statistics.getTopTags(1));
+        assertEquals(2, statistics.getTagCount("friends"));
+        assertFalse(statistics.getPersonWithMostLogs().isPresent());
+    }
+
+    @Test
+    public void of_persons_sameAsListStatistics() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(withLogs(new PersonBuilder().withName("Zoe").withEmail("zoe@nus.edu").build(), 1));
+        uniquePersonList.setPersons(persons);
+        PersonStatistics counted = PersonStatistics.of(persons);
+
+        assertEquals(statistics.getPersonCount(), counted.getPersonCount());
+        assertEquals(statistics.getTopTags(5), counted.getTopTags(5));
+        assertEquals(statistics.getMostCommonEmailDomain(), counted.getMostCommonEmailDomain());
+        assertEquals(statistics.getPersonWithMostLogs(), counted.getPersonWithMostLogs());
+    }
+
+    private static Person withLogs(Person person, int logCount) {
+        List<LogEntry> logs = new ArrayList<>();
+        for (int i = 0; i < logCount; i++) {
+            logs.add(new LogEntry("Met up", "meeting", LocalDateTime.of(2024, 1, 1 + i, 12, 0)));
+        }
+        return new Person(person.getName(), person.getPhone(), person.getTelegramHandle(), person.getEmail(),
+                person.getAddress(), person.getTags(), person.getNote(), new InteractionLog(logs), person.isPinned());
+    }
+}
@@ -51,6 +51,41 @@ public class PersonTest {
         assertFalse(BOB.isSamePerson(editedBob));
     }
 
+    @Test
+    public void getIdentityKey() {
+        // computed once
+        assertTrue(ALICE.getIdentityKey() == ALICE.getIdentityKey());
+
+        // same identity -> same key
+        Person editedAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase())
+                .withAddress(VALID_ADDRESS_BOB).build();
+        assertEquals(ALICE.getIdentityKey(), editedAlice.getIdentityKey());
+
+        // different phone -> different key
+        editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertFalse(ALICE.getIdentityKey().equals(editedAlice.getIdentityKey()));
+    }
+
+    @Test
+    public void getSortKey() {
+        // computed once
+        assertTrue(ALICE.getSortKey(Field.FieldValue.NAME) == ALICE.getSortKey(Field.FieldValue.NAME));
+
+        // names differing only in case -> same order
+        Person lowerCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase()).build();
+        assertEquals(0, ALICE.getSortKey(Field.FieldValue.NAME)
+                .compareTo(lowerCaseAlice.getSortKey(Field.FieldValue.NAME)));
+
+        // accented letters sort next to their base letters
+        Person emile = new PersonBuilder().withName("Émile Zola").build();
+        Person frank = new PersonBuilder().withName("Frank Ong").build();
+        Person eddy = new PersonBuilder().withName("Eddy Tan").build();
+        assertTrue(emile.getSortKey(Field.FieldValue.NAME).compareTo(frank.getSortKey(Field.FieldValue.NAME)) < 0);
+        assertTrue(eddy.getSortKey(Field.FieldValue.NAME).compareTo(emile.getSortKey(Field.FieldValue.NAME)) < 0);
+
+        assertThrows(IllegalArgumentException.class, () -> ALICE.getSortKey(Field.FieldValue.INVALID));
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
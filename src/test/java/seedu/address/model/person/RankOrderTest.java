@@ -0,0 +1,36 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class RankOrderTest {
+
+    @Test
+    public void compare_pinnedPersonsFirstThenByRank() {
+        Person pinnedCarl = new PersonBuilder(CARL).withPinned(true).build();
+        RankOrder rankOrder = new RankOrder(List.of(BENSON, CARL, ALICE, BENSON));
+        List<Person> persons = new ArrayList<>(List.of(ALICE, BENSON, pinnedCarl));
+
+        persons.sort(rankOrder);
+        assertEquals(List.of(pinnedCarl, BENSON, ALICE), persons);
+    }
+
+    @Test
+    public void isRanked() {
+        RankOrder rankOrder = new RankOrder(List.of(ALICE, BENSON));
+        assertTrue(rankOrder.isRanked(new PersonBuilder(ALICE).withNote("edited").build()));
+        assertFalse(rankOrder.isRanked(DANIEL));
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class SortOrderTest {
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SortOrder(List.of(new Field("name")), List.of()));
+        assertThrows(IllegalArgumentException.class, () ->
+                new SortOrder(List.of(new Field("birthday")), List.of(new Order("asc"))));
+    }
+
+    @Test
+    public void compare_pinnedPerson_sortedFirst() {
+        Person pinned = pin(new PersonBuilder().withName("Zed").build());
+        Person unpinned = new PersonBuilder().withName("Amy").build();
+        assertTrue(SortOrder.DEFAULT.compare(pinned, unpinned) < 0);
+        assertTrue(SortOrder.PINNED_FIRST.compare(pinned, unpinned) < 0);
+        assertEquals(0, SortOrder.PINNED_FIRST.compare(unpinned, new PersonBuilder().withName("Bob").build()));
+    }
+
+    @Test
+    public void compare_randomPersons_sameAsChainedComparators() {
+        Random random = new Random(17);
+        String[] addresses = {"Ang Mo Kio", "ang mo kio", "Bedok", "Bedok North", "Clementi", "Éunos"};
+        String[] names = {"Alex", "alex", "Al", "Bea", "Béa", "Chen Li", "Chen", "Dan"};
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            persons.add(new PersonBuilder().withName(names[random.nextInt(names.length)])
+                    .withAddress(addresses[random.nextInt(addresses.length)])
+                    .withPhone(String.valueOf(10000000 + random.nextInt(90000000))).build());
+        }
+
+        SortOrder sortOrder = new SortOrder(List.of(new Field("address"), new Field("name"), new Field("phone")),
+                List.of(new Order("asc"), new Order("desc"), new Order("desc")));
+        Comparator<Person> expected = Comparator.comparing((Person p) -> p.getSortKey(Field.FieldValue.ADDRESS))
+                .thenComparing(p -> p.getSortKey(Field.FieldValue.NAME), Comparator.reverseOrder())
+                .thenComparing(p -> p.getSortKey(Field.FieldValue.PHONE), Comparator.reverseOrder());
+        for (Person first : persons) {
+            for (Person second : persons) {
+                assertEquals(Integer.signum(expected.compare(first, second)),
+                        Integer.signum(sortOrder.compare(first, second)));
+            }
+        }
+    }
+
+    @Test
+    public void compare_interactionFields_sameAsChainedComparators() {
+        Random random = new Random(23);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            InteractionLog logs = new InteractionLog();
+            int logCount = random.nextInt(4);
+            for (int j = 0; j < logCount; j++) {
+                // timestamps before and after 1970, some only apart by nanoseconds
+                LocalDateTime timestamp = LocalDateTime.of(1950 + random.nextInt(3) * 40, 1, 1, 0, 0)
+                        .plusNanos(random.nextInt(3));
+                logs = logs.addLogEntry(new LogEntry("log", "", timestamp));
+            }
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            persons.add(new Person(person.getName(), person.getPhone(), person.getTelegramHandle(), person.getEmail(),
+                    person.getAddress(), person.getTags(), person.getNote(), logs, false));
+        }
+
+        SortOrder sortOrder = new SortOrder(List.of(new Field("lastcontacted"), new Field("interactions")),
+                List.of(new Order("desc"), new Order("asc")));
+        Comparator<Person> expected = Comparator.comparing((Person p) -> p.getLogs().getLatestTimestamp(),
+                        Comparator.comparing((Optional<LocalDateTime> t) -> t.orElse(LocalDateTime.MIN)).reversed())
+                .thenComparingInt(p -> p.getLogs().size());
+        for (Person first : persons) {
+            for (Person second : persons) {
+                assertEquals(Integer.signum(expected.compare(first, second)),
+                        Integer.signum(sortOrder.compare(first, second)));
+            }
+        }
+    }
+
+    @Test
+    public void getPackedSortKey_switchBetweenOrders_keysKept() {
+        Person person = new PersonBuilder().build();
+        SortOrder byAddress = new SortOrder(List.of(new Field("address")), List.of(new Order("desc")));
+        byte[] defaultKey = person.getPackedSortKey(SortOrder.DEFAULT);
+        byte[] addressKey = person.getPackedSortKey(byAddress);
+
+        assertSame(defaultKey, person.getPackedSortKey(SortOrder.DEFAULT));
+        assertSame(addressKey, person.getPackedSortKey(byAddress));
+        // the same order chosen again
+        assertSame(addressKey, person.getPackedSortKey(
+                new SortOrder(List.of(new Field("address")), List.of(new Order("desc")))));
+    }
+
+    @Test
+    public void equals() {
+        SortOrder sortOrder = new SortOrder(List.of(new Field("name")), List.of(new Order("asc")));
+        assertTrue(sortOrder.equals(SortOrder.DEFAULT));
+        assertTrue(sortOrder.equals(sortOrder));
+        assertFalse(sortOrder.equals(null));
+        assertFalse(sortOrder.equals(SortOrder.PINNED_FIRST));
+        assertFalse(sortOrder.equals(new SortOrder(List.of(new Field("name")), List.of(new Order("desc")))));
+    }
+
+    private static Person pin(Person person) {
+        return new Person(person.getName(), person.getPhone(), person.getTelegramHandle(), person.getEmail(),
+                person.getAddress(), person.getTags(), person.getNote(), person.getLogs(), true);
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final TagIndex tagIndex = uniquePersonList.getTagIndex();
+
+    @Test
+    public void getIdentityKeysWithAnyTag_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.getIdentityKeysWithAnyTag(null));
+    }
+
+    @Test
+    public void getIdentityKeysWithAnyTag_unknownTag_returnsEmptySet() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Collections.emptySet(), tagIndex.getIdentityKeysWithAnyTag(List.of("enemies")));
+    }
+
+    @Test
+    public void getIdentityKeysWithAnyTag_severalTags_returnsUnion() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+
+        // tags are matched ignoring case
+        assertEquals(Set.of(BENSON.getIdentityKey()), tagIndex.getIdentityKeysWithAnyTag(List.of("OWESMONEY")));
+        assertEquals(Set.of(ALICE.getIdentityKey(), BENSON.getIdentityKey(), DANIEL.getIdentityKey()),
+                tagIndex.getIdentityKeysWithAnyTag(List.of("friends", "owesMoney")));
+    }
+
+    @Test
+    public void getIdentityKeysWithAnyTag_afterEditAndRemove_followsList() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        Person editedBenson = new PersonBuilder(BENSON).withTags("colleagues").build();
+        uniquePersonList.setPerson(BENSON, editedBenson);
+        uniquePersonList.remove(ALICE);
+
+        assertEquals(Collections.emptySet(), tagIndex.getIdentityKeysWithAnyTag(List.of("friends", "owesMoney")));
+        assertEquals(Set.of(BENSON.getIdentityKey()), tagIndex.getIdentityKeysWithAnyTag(List.of("colleagues")));
+    }
+
+    @Test
+    public void getIdentityKeysWithAnyTag_afterRestoreSnapshot_followsList() {
+        uniquePersonList.add(ALICE);
+        PersistentPersonList snapshot = uniquePersonList.snapshot();
+        uniquePersonList.remove(ALICE);
+
+        uniquePersonList.restoreSnapshot(snapshot);
+        assertEquals(Set.of(ALICE.getIdentityKey()), tagIndex.getIdentityKeysWithAnyTag(List.of("friends")));
+    }
+
+    @Test
+    public void createAnyTagPredicate_laterChanges_followsList() {
+        uniquePersonList.add(ALICE);
+        Predicate<Person> predicate = tagIndex.createAnyTagPredicate(List.of("colleagues"));
+        assertFalse(predicate.test(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags("colleagues").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertTrue(predicate.test(editedAlice));
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -47,6 +48,20 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithNameInDifferentCaseInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_personWithSameNameDifferentPhoneInList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithBobPhone = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        assertFalse(uniquePersonList.contains(aliceWithBobPhone));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -109,6 +124,23 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPerson_targetWithSameIdentityNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +159,31 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_returnsIndexOfPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(1, uniquePersonList.remove(BOB));
+        assertEquals(0, uniquePersonList.remove(ALICE));
+    }
+
+    @Test
+    public void remove_personWithSameIdentityNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_existingPerson_allowsPersonToBeAddedAgain() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +219,110 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithPersonsOfSameIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.add(BOB);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, upperCaseAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPersons_list_replacesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void restoreSnapshot_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.restoreSnapshot(null));
+    }
+
+    @Test
+    public void restoreSnapshot_laterChanges_restoresSnapshottedPersons() {
+        uniquePersonList.add(ALICE);
+        PersistentPersonList snapshot = uniquePersonList.snapshot();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(BOB);
+
+        uniquePersonList.restoreSnapshot(snapshot);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+        assertTrue(snapshot == uniquePersonList.snapshot());
+    }
+
+    @Test
+    public void restoreSnapshot_indexesUsedBefore_indexesMatchRestoredPersons() {
+        Person loggedAlice = new PersonBuilder(ALICE).withNote("catering")
+                .withLogs(new LogEntry("call", "", LocalDateTime.of(2026, 10, 5, 9, 0))).build();
+        uniquePersonList.add(loggedAlice);
+        PersistentPersonList snapshot = uniquePersonList.snapshot();
+        uniquePersonList.setPerson(loggedAlice, ALICE);
+        assertEquals(0, uniquePersonList.getLogIndex().size());
+        assertEquals(0, uniquePersonList.getFullTextIndex().search("catering").size());
+
+        uniquePersonList.restoreSnapshot(snapshot);
+        assertEquals(1, uniquePersonList.getLogIndex().size());
+        assertEquals(1, uniquePersonList.getFullTextIndex().search("catering").size());
+
+        // the indexes are kept in sync once built
+        uniquePersonList.remove(loggedAlice);
+        assertEquals(0, uniquePersonList.getLogIndex().size());
+        assertEquals(0, uniquePersonList.getFullTextIndex().search("catering").size());
+    }
+
+    @Test
+    public void setPersons_indexesUsedBefore_indexesKeptAndUpdated() {
+        Person loggedAlice = new PersonBuilder(ALICE).withNote("catering")
+                .withLogs(new LogEntry("asked about catering", "call", LocalDateTime.of(2026, 10, 5, 9, 0))).build();
+        Person loggedBob = new PersonBuilder(BOB).withNote("catering")
+                .withLogs(new LogEntry("sent menu", "email", LocalDateTime.of(2026, 10, 6, 9, 0))).build();
+        uniquePersonList.add(loggedAlice);
+        uniquePersonList.add(BOB);
+        PersistentPersonList snapshot = uniquePersonList.snapshot();
+        LogIndex logIndex = uniquePersonList.getLogIndex();
+        FullTextIndex fullTextIndex = uniquePersonList.getFullTextIndex();
+
+        uniquePersonList.setPersons(Arrays.asList(loggedBob));
+        assertTrue(logIndex == uniquePersonList.getLogIndex());
+        assertTrue(fullTextIndex == uniquePersonList.getFullTextIndex());
+        assertEquals(1, logIndex.size());
+        assertEquals(Arrays.asList(loggedBob),
+                Arrays.asList(fullTextIndex.search("catering").get(0).getPerson()));
+
+        uniquePersonList.restoreSnapshot(snapshot);
+        assertTrue(logIndex == uniquePersonList.getLogIndex());
+        LocalDateTime from = LocalDateTime.of(2026, 10, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 11, 1, 0, 0);
+        assertEquals(1, logIndex.getInteractionsBetween(from, to, "call").size());
+        assertEquals(0, logIndex.getInteractionsBetween(from, to, "email").size());
+        assertEquals(loggedAlice, fullTextIndex.search("catering").get(0).getPerson());
+        assertEquals(1, fullTextIndex.search("catering").size());
+    }
+
+    @Test
+    public void setPerson_manyPersonsInsertedBefore_personFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        for (int i = 0; i < 40; i++) {
+            uniquePersonList.add(1, new PersonBuilder().withName("Person " + i).build());
+        }
+
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        assertEquals(editedBob, uniquePersonList.asUnmodifiableObservableList().get(41));
+        uniquePersonList.remove(editedBob);
+        assertFalse(uniquePersonList.contains(BOB));
+        assertEquals(41, uniquePersonList.asUnmodifiableObservableList().size());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_thenFlush_writesLatestAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.save(addressBook.createSnapshot(), filePath);
+        addressBook.removePerson(ALICE);
+        saver.save(addressBook.createSnapshot(), filePath);
+        saver.flush();
+
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(saver.takeFailure().isPresent());
+    }
+
+    @Test
+    public void flush_saveFailed_throwsIoException() {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(new FailingAddressBookStorage(testFolder));
+        saver.save(new AddressBook(), testFolder.resolve("addressBook.json"));
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), saver::flush);
+    }
+
+    @Test
+    public void flush_saveFailed_failureReportedOnlyOnce() throws Exception {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(new FailingAddressBookStorage(testFolder));
+        saver.save(new AddressBook(), testFolder.resolve("addressBook.json"));
+        assertThrows(IOException.class, saver::flush);
+        assertFalse(saver.takeFailure().isPresent());
+        saver.flush();
+    }
+
+    @Test
+    public void flush_noSaves_returnsImmediately() throws Exception {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(new FailingAddressBookStorage(testFolder));
+        saver.flush();
+        assertTrue(saver.takeFailure().isEmpty());
+    }
+
+    /**
+     * An AddressBookStorage that always fails to save.
+     */
+    private static class FailingAddressBookStorage extends JsonAddressBookStorage {
+        FailingAddressBookStorage(Path folder) {
+            super(folder.resolve("addressBook.json"));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.InteractionLog;
+import seedu.address.model.person.LogEntry;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookSnapshotTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(BinaryAddressBookSnapshot.read(testFolder.resolve("NonExistentFile.bin")).isPresent());
+    }
+
+    @Test
+    public void read_writtenSnapshot_samePersons() throws Exception {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        InteractionLog logs = new InteractionLog(List.of(
+                new LogEntry("Met for lunch", "meeting", LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123456789)),
+                new LogEntry("Called about the project", "call", LocalDateTime.of(2024, 3, 2, 9, 0))));
+        Person person = new PersonBuilder().withName("Zoe Ng").withPhone("91234567").withAddress("Straße 5, München")
+                .withTags("friends", "colleagues").withNote("likes tea").build();
+        persons.add(new Person(person.getName(), person.getPhone(), person.getTelegramHandle(), person.getEmail(),
+                person.getAddress(), person.getTags(), person.getNote(), logs, true));
+
+        Path filePath = testFolder.resolve("snapshot.bin");
+        new BinaryAddressBookSnapshot(42, persons).write(filePath);
+        BinaryAddressBookSnapshot snapshot = BinaryAddressBookSnapshot.read(filePath).get();
+
+        assertEquals(42, snapshot.getJsonChecksum());
+        assertEquals(persons, snapshot.getPersons());
+    }
+
+    @Test
+    public void read_modifiedFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("snapshot.bin");
+        new BinaryAddressBookSnapshot(42, getTypicalPersons()).write(filePath);
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertFalse(BinaryAddressBookSnapshot.read(filePath).isPresent());
+    }
+
+    @Test
+    public void read_truncatedFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("snapshot.bin");
+        new BinaryAddressBookSnapshot(42, getTypicalPersons()).write(filePath);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 20));
+
+        assertFalse(BinaryAddressBookSnapshot.read(filePath).isPresent());
+    }
+
+    @Test
+    public void read_otherFormatVersion_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("snapshot.bin");
+        new BinaryAddressBookSnapshot(42, getTypicalPersons()).write(filePath);
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryAddressBookSnapshot.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertFalse(BinaryAddressBookSnapshot.read(filePath).isPresent());
+    }
+}
@@ -0,0 +1,285 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getBestRunningTime;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.LogEntry;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+    private static final int LARGE_ADDRESS_BOOK_SIZE = 10000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(testFolder).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonAddressBook_throwDataLoadingException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_fileSavedByJsonAddressBookStorage_success() throws Exception {
+        Path copiedFilePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(copiedFilePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JournalAddressBookStorage(copiedFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withNote("likes tea").build());
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        // each change recorded by the address book is appended on its own
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_recordedChanges_journaledWithoutComparingPersons() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // comparing the persons would find no change, while the recorded changes are journaled as they were made
+        Person editedBenson = new PersonBuilder(BENSON).withNote("likes tea").build();
+        original.setPerson(BENSON, editedBenson);
+        original.setPerson(editedBenson, BENSON);
+        storage.saveAddressBook(original.createSnapshot());
+
+        assertEquals(2, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changesNotRecorded_foundByComparingPersons() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        // the address book read has no changes in common with the one saved
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = new AddressBook(storage.readAddressBook().get());
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_journalExceedsThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalPath));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_largeAddressBook_binarySnapshotLoadsFaster() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < LARGE_ADDRESS_BOOK_SIZE; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                    .withEmail("person" + i + "@example.com").withTags("friends", "team" + i % 10)
+                    .withNote("met at the conference")
+                    .withLogs(new LogEntry("Called about the project", "call", LocalDateTime.of(2026, 3, 2, 9, 0)),
+                            new LogEntry("Met for lunch", "meeting", LocalDateTime.of(2026, 3, 1, 12, 30)))
+                    .build());
+        }
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        long binaryTime = getBestRunningTime(() -> new JournalAddressBookStorage(filePath).readAddressBook(), 3);
+        Files.delete(JournalAddressBookStorage.getBinaryFilePath(filePath));
+        long jsonTime = getBestRunningTime(() -> new JournalAddressBookStorage(filePath).readAddressBook(), 3);
+        // the binary snapshot skips parsing and validating every value, so it loads several times faster
+        assertTrue(binaryTime * 2 < jsonTime, "binary: " + binaryTime + "ns, json: " + jsonTime + "ns");
+    }
+
+    @Test
+    public void compact_journalNotEmpty_mergesJournalIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        storage.compact();
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // simulates the app stopping after a compaction replaced the snapshot, but before the journal was deleted
+        Path oldJournalPath = testFolder.resolve("old.journal");
+        Files.copy(journalPath, oldJournalPath);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        Files.move(oldJournalPath, journalPath, StandardCopyOption.REPLACE_EXISTING);
+
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastJournalEntry_entryIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(journalPath, "{\"snapshotChecksum\":".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reloadedStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(reloadedStorage.readAddressBook().get()));
+
+        // the next save must not be appended after the incomplete entry
+        original.addPerson(IDA);
+        reloadedStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_upToDateBinaryCopy_binaryCopyRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path binaryFilePath = JournalAddressBookStorage.getBinaryFilePath(filePath);
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        long jsonChecksum = BinaryAddressBookSnapshot.read(binaryFilePath).get().getJsonChecksum();
+
+        // a binary copy with other contents shows which file was read
+        new BinaryAddressBookSnapshot(jsonChecksum, List.of(ALICE)).write(binaryFilePath);
+        AddressBook expected = new AddressBook();
+        expected.addPerson(ALICE);
+        assertEquals(expected, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_outdatedBinaryCopy_jsonFileRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path binaryFilePath = JournalAddressBookStorage.getBinaryFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] outdatedBinaryCopy = Files.readAllBytes(binaryFilePath);
+
+        // the json file is edited by hand
+        original.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // reading leaves the files as they are, and the binary copy is brought up to date by the next compaction
+        assertTrue(Arrays.equals(outdatedBinaryCopy, Files.readAllBytes(binaryFilePath)));
+        storage.compact();
+        assertFalse(Arrays.equals(outdatedBinaryCopy, Files.readAllBytes(binaryFilePath)));
+        assertEquals(original.getPersonList(), BinaryAddressBookSnapshot.read(binaryFilePath).get().getPersons());
+    }
+
+    @Test
+    public void saveAddressBook_readWithoutBinaryCopy_binaryCopyOfSnapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path binaryFilePath = JournalAddressBookStorage.getBinaryFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        assertFalse(Files.exists(binaryFilePath));
+
+        // the change goes to the journal, and the binary copy holds the snapshot file without it
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(original.getPersonList(), BinaryAddressBookSnapshot.read(binaryFilePath).get().getPersons());
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidJournalEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath),
+                "not json\n{}\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+}
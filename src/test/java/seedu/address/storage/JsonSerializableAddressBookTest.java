@@ -3,14 +3,26 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +56,99 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readAddressBook_typicalPersonsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(TYPICAL_PERSONS_FILE))) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(INVALID_PERSON_FILE))) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(DUPLICATE_PERSON_FILE))) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_truncatedData_throwsIoException() throws Exception {
+        byte[] truncatedData = "{ \"persons\" : [ ".getBytes();
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(truncatedData))) {
+            assertThrows(IOException.class, () -> JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void writeAddressBook_thenReadAddressBook_sameAddressBook() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            JsonSerializableAddressBook.writeAddressBook(generator, typicalPersonsAddressBook.getPersonList());
+        }
+
+        // the streamed output can also be read as a whole
+        assertEquals(typicalPersonsAddressBook, JsonUtil.fromJsonString(out.toString(),
+                JsonSerializableAddressBook.class).toModelType());
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(typicalPersonsAddressBook, JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void toModelType_severalInvalidPersons_earliestErrorThrown() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            persons.add(new JsonAdaptedPerson(new PersonBuilder().withPhone(String.valueOf(10000 + i)).build()));
+        }
+        persons.set(1, new JsonAdaptedPerson("Amy Bee", null, null, null, null, List.of(), "", List.of(), false));
+        persons.set(900, new JsonAdaptedPerson(null, null, null, null, null, List.of(), "", List.of(), false));
+
+        String expectedMessage = String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                Phone.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                new JsonSerializableAddressBook(persons).toModelType());
+    }
+
+    @Test
+    public void readAddressBook_severalBatches_orderPreserved() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 2 * JsonSerializableAddressBook.CONVERSION_BATCH_SIZE + 3; i++) {
+            addressBook.addPerson(new PersonBuilder().withPhone(String.valueOf(10000 + i)).build());
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            JsonSerializableAddressBook.writeAddressBook(generator, addressBook.getPersonList());
+        }
+
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(addressBook, JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersonsInDifferentBatches_throwsIllegalValueException() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableAddressBook.CONVERSION_BATCH_SIZE + 1; i++) {
+            persons.add(new PersonBuilder().withPhone(String.valueOf(10000 + i)).build());
+        }
+        persons.add(persons.get(0));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            JsonSerializableAddressBook.writeAddressBook(generator, persons);
+        }
+
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
 }
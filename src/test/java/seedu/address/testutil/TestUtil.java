@@ -5,6 +5,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import org.junit.jupiter.api.function.Executable;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -52,4 +54,23 @@ public class TestUtil {
     public static Person getPerson(Model model, Index index) {
         return model.getFilteredPersonList().get(index.getZeroBased());
     }
+
+    /**
+     * Returns the shortest time in nanoseconds that {@code task} took to run over {@code runs} runs, after a first run
+     * to warm up. The shortest time is taken so that timings are not skewed by garbage collection or other processes.
+     */
+    public static long getBestRunningTime(Executable task, int runs) {
+        long bestTime = Long.MAX_VALUE;
+        try {
+            task.execute();
+            for (int i = 0; i < runs; i++) {
+                long startTime = System.nanoTime();
+                task.execute();
+                bestTime = Math.min(bestTime, System.nanoTime() - startTime);
+            }
+        } catch (Throwable e) {
+            throw new AssertionError(e);
+        }
+        return bestTime;
+    }
 }